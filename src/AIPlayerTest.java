@@ -11,6 +11,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
 public class AIPlayerTest {
 
     @BeforeEach
@@ -89,4 +94,46 @@ public class AIPlayerTest {
         ai1.drawTile(bag);
         org.junit.jupiter.api.Assertions.assertEquals(ai1.hand.size(), 7);
     }
+
+    @Test
+    @DisplayName("Testing an AIPlayer given its own dictionary only plays its words")
+    public void ownDictionary() {
+        Dictionary words = new Dictionary();
+        words.addWord("tab");
+        GameModel model = new GameModel();
+        AIPlayer ai = new AIPlayer("AI1", model, words);
+        org.junit.jupiter.api.Assertions.assertSame(words, ai.getDictionary());
+        org.junit.jupiter.api.Assertions.assertSame(model.getDictionary(), new AIPlayer("AI2", model).getDictionary());
+
+        ai.hand.add(new Tile("A", 1));
+        ai.hand.add(new Tile("B", 3));
+        ai.hand.add(new Tile("T", 1));
+        ai.setParallelism(1);
+        for (Move move : ai.generateMoves()) {
+            org.junit.jupiter.api.Assertions.assertEquals(3, move.placedTiles.size());
+        }
+        org.junit.jupiter.api.Assertions.assertFalse(ai.generateMoves().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Testing AIPlayers with the same parallelism search in one shared pool")
+    public void sharedPool() {
+        GameModel model = new GameModel();
+        for (int i = 0; i < 4; i++) {
+            AIPlayer ai = new AIPlayer("AI" + i, model);
+            ai.setParallelism(3);
+            ai.setTranspositionTable(new TranspositionTable(0)); //every AIPlayer searches
+            ai.hand.add(new Tile("A", 1));
+            ai.hand.add(new Tile("B", 3));
+            ai.hand.add(new Tile("T", 1));
+            org.junit.jupiter.api.Assertions.assertNotNull(ai.findBestMove());
+        }
+        Set<ForkJoinPool> pools = new HashSet<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread instanceof ForkJoinWorkerThread worker && worker.getPool().getParallelism() == 3) {
+                pools.add(worker.getPool());
+            }
+        }
+        org.junit.jupiter.api.Assertions.assertEquals(1, pools.size());
+    }
 }
@@ -0,0 +1,402 @@
+import java.nio.*;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * An AnagramIndex answers "which words can these letters make?" without looking at any word that can't be
+ * made. Each word is filed under its signature, its letters in alphabetical order ("eat", "tea" and "ate"
+ * are all filed under "aet"), and the signatures form a trie. A search walks the trie taking letters from
+ * the rack (and any board letters), using a blank only when no tile of a letter is left, so it only follows
+ * signatures the letters can still make and the work done grows with the number of words found.
+ *
+ * Nodes are numbered in preorder from 0 (the root), so a node's first child is the node after it, and the
+ * words filed under a node are the ones numbered from its word start to the next node's. Like the Dawg, the
+ * nodes are held in int buffers, so the index of a lexicon image is used where it is mapped.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class AnagramIndex {
+    /** Returned when a node has no next sibling. */
+    private static final int NONE = -1;
+    /** The bit of a node's info set when it has children. */
+    private static final int HAS_CHILDREN = 1 << 5;
+    /** The bits of a node's info which hold the letter of the edge into it. */
+    private static final int LETTER_BITS = HAS_CHILDREN - 1;
+
+    /**
+     * A word found by a search.
+     * @param word The word, in lowercase.
+     * @param blanks The letters the blanks stand for, in alphabetical order, or "" if no blanks were used.
+     */
+    public record Anagram(String word, String blanks) { }
+
+    /** The letter of the edge into each node, and HAS_CHILDREN if it has children. */
+    private final IntBuffer info;
+    /** The next child of each node's parent, or NONE. */
+    private final IntBuffer siblings;
+    /** The first word filed under each node, with one more entry for the end of the words. */
+    private final IntBuffer wordStarts;
+    /** The numbers of the words, ordered by signature. */
+    private final IntBuffer words;
+    /** Returns a word from its number. */
+    private final IntFunction<String> wordAt;
+
+    /**
+     * Constructs an AnagramIndex from its packed nodes.
+     */
+    private AnagramIndex(IntBuffer info, IntBuffer siblings, IntBuffer wordStarts, IntBuffer words, IntFunction<String> wordAt) {
+        this.info = info;
+        this.siblings = siblings;
+        this.wordStarts = wordStarts;
+        this.words = words;
+        this.wordAt = wordAt;
+    }
+
+    /**
+     * Builds the index of every word in a dictionary. Words containing anything other than the letters a-z
+     * are skipped, since they can't be made from tiles.
+     * @param dictionary The dictionary to build from.
+     * @return The built index, which returns words from the dictionary by number.
+     */
+    public static AnagramIndex build(Dictionary dictionary) {
+        String[] all = new String[dictionary.size()];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = dictionary.getWord(i);
+        }
+        return build(all, dictionary::getWord);
+    }
+
+    /**
+     * Builds the index of an array of words.
+     * @param all The words, in lowercase; each is filed under its position in the array.
+     * @param wordAt Returns a word from its position.
+     * @return The built index.
+     */
+    static AnagramIndex build(String[] all, IntFunction<String> wordAt) {
+        int n = 0;
+        String[] signatures = new String[all.length];
+        Integer[] order = new Integer[all.length];
+        for (int i = 0; i < all.length; i++) {
+            if (isLetters(all[i])) {
+                char[] letters = all[i].toCharArray();
+                Arrays.sort(letters);
+                signatures[i] = new String(letters);
+                order[n++] = i;
+            }
+        }
+        Arrays.sort(order, 0, n, Comparator.comparing((Integer i) -> signatures[i]).thenComparing(i -> all[i]));
+
+        //nodes are added in preorder, since the signatures are sorted
+        IntArray info = new IntArray();
+        IntArray siblings = new IntArray();
+        IntArray wordStarts = new IntArray();
+        int[] words = new int[n];
+        int[] path = new int[1];
+        info.add(0);
+        siblings.add(NONE);
+        wordStarts.add(0);
+        String previous = "";
+        for (int k = 0; k < n; k++) {
+            String signature = signatures[order[k]];
+            words[k] = order[k];
+            if (k > 0 && signature.equals(previous)) {
+                continue;
+            }
+            int common = 0;
+            while (common < signature.length() && common < previous.length() && signature.charAt(common) == previous.charAt(common)) {
+                common++;
+            }
+            if (path.length <= signature.length()) {
+                path = Arrays.copyOf(path, signature.length() + 1);
+            }
+            for (int depth = common; depth < signature.length(); depth++) {
+                int parent = path[depth];
+                int node = info.size();
+                //the last child of the parent is the one on the previous signature's path, if it went that way
+                if ((info.get(parent) & HAS_CHILDREN) != 0) {
+                    siblings.set(path[depth + 1], node);
+                }
+                info.set(parent, info.get(parent) | HAS_CHILDREN);
+                info.add(signature.charAt(depth) - 'a');
+                siblings.add(NONE);
+                wordStarts.add(k);
+                path[depth + 1] = node;
+            }
+            previous = signature;
+        }
+        wordStarts.add(n);
+        return new AnagramIndex(info.buffer(), siblings.buffer(), wordStarts.buffer(), IntBuffer.wrap(words), wordAt);
+    }
+
+    /**
+     * Reads an AnagramIndex written by writeTo, without copying it: the index is a view of the buffer.
+     * @param in The buffer, positioned at the index. Its position is moved past the index.
+     * @param wordAt Returns a word from its number.
+     * @return The AnagramIndex.
+     * @throws BufferUnderflowException If the buffer ends before the index does.
+     * @throws IllegalArgumentException If the buffer doesn't hold an index.
+     */
+    public static AnagramIndex read(ByteBuffer in, IntFunction<String> wordAt) {
+        int nodes = in.getInt();
+        int count = in.getInt();
+        if (nodes < 1 || count < 0) {
+            throw new IllegalArgumentException("Bad anagram index of " + nodes + " nodes and " + count + " words");
+        }
+        IntBuffer info = ints(in, nodes);
+        IntBuffer siblings = ints(in, nodes);
+        IntBuffer wordStarts = ints(in, nodes + 1);
+        IntBuffer words = ints(in, count);
+        return new AnagramIndex(info, siblings, wordStarts, words, wordAt);
+    }
+
+    /**
+     * Takes a view of the next ints of a buffer.
+     * @param in The buffer, which is moved past the ints.
+     * @param count The number of ints.
+     * @return The view.
+     */
+    private static IntBuffer ints(ByteBuffer in, int count) {
+        if (count > in.remaining() / Integer.BYTES) {
+            throw new BufferUnderflowException();
+        }
+        IntBuffer view = in.slice().order(in.order()).asIntBuffer().limit(count);
+        in.position(in.position() + count * Integer.BYTES);
+        return view;
+    }
+
+    /**
+     * Returns the number of bytes writeTo writes.
+     * @return The size of the written index.
+     */
+    public int byteSize() {
+        return Integer.BYTES * (2 + info.limit() * 3 + 1 + words.limit());
+    }
+
+    /**
+     * Writes the index so it can be read back by read.
+     * @param out The buffer to write to, which must have byteSize bytes left.
+     */
+    public void writeTo(ByteBuffer out) {
+        out.putInt(info.limit()).putInt(words.limit());
+        for (IntBuffer ints : new IntBuffer[] {info, siblings, wordStarts, words}) {
+            for (int i = 0; i < ints.limit(); i++) {
+                out.putInt(ints.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of nodes in the index.
+     * @return The node count.
+     */
+    public int nodeCount() {
+        return info.limit();
+    }
+
+    /**
+     * Returns the number of words in the index.
+     * @return The word count.
+     */
+    public int wordCount() {
+        return words.limit();
+    }
+
+    /**
+     * Finds every word that can be made from some letters and blanks, using each letter at most as many times
+     * as it is available. A blank is only used for a letter once every tile of that letter has been used.
+     * @param letters The number of each letter available, indexed from 0 ('a') to 25 ('z'). It is restored to
+     *                its original contents before this method returns.
+     * @param blanks The number of blanks available.
+     * @param required The number of each letter every word must use, such as letters on the board a word has to
+     *                 go through, which must also be counted in letters; or null if no letters are required.
+     * @param minLength The shortest word wanted.
+     * @param maxLength The longest word wanted.
+     * @param action Called once for each word found.
+     */
+    public void forEach(int[] letters, int blanks, int[] required, int minLength, int maxLength, Consumer<Anagram> action) {
+        int[] needed = new int[Dawg.LETTERS];
+        int neededMask = 0;
+        if (required != null) {
+            for (int letter = 0; letter < Dawg.LETTERS; letter++) {
+                needed[letter] = required[letter];
+                if (needed[letter] > 0) {
+                    neededMask |= 1 << letter;
+                }
+            }
+        }
+        new Search(letters, blanks, needed, minLength, maxLength, action).walk(0, 0, neededMask, 0);
+    }
+
+    /**
+     * Finds every word a rack can make with the help of some letters on the board, each of which the word
+     * must use. With no board letters this is every word the rack alone can make, which is what a hint lists.
+     * @param rack The tiles of the rack, blanks included.
+     * @param through The letters on the board each word must use, or "" for none.
+     * @return The words, ordered by signature.
+     */
+    public List<Anagram> words(List<Tile> rack, String through) {
+        int[] letters = new int[Dawg.LETTERS];
+        int blanks = count(rack, letters);
+        int[] required = new int[Dawg.LETTERS];
+        for (int i = 0; i < through.length(); i++) {
+            int letter = Dawg.letterIndex(through.charAt(i));
+            if (letter < 0) {
+                return new ArrayList<>();
+            }
+            letters[letter]++;
+            required[letter]++;
+        }
+        List<Anagram> found = new ArrayList<>();
+        forEach(letters, blanks, required, Math.max(2, through.length()), rack.size() + through.length(), found::add);
+        return found;
+    }
+
+    /**
+     * Finds the words which use every tile of a rack; with a full rack, these are its bingos.
+     * @param rack The tiles of the rack, blanks included.
+     * @return The words, ordered by signature.
+     */
+    public List<Anagram> bingos(List<Tile> rack) {
+        int[] letters = new int[Dawg.LETTERS];
+        int blanks = count(rack, letters);
+        List<Anagram> found = new ArrayList<>();
+        forEach(letters, blanks, null, rack.size(), rack.size(), found::add);
+        return found;
+    }
+
+    /**
+     * Counts the letters of a rack. A player's Hand already keeps its counts, so they are read from it.
+     * @param rack The tiles.
+     * @param letters Where the number of each letter is added.
+     * @return The number of blanks.
+     */
+    private static int count(List<Tile> rack, int[] letters) {
+        if (rack instanceof Player.Hand hand) {
+            for (int letter = 0; letter < Dawg.LETTERS; letter++) {
+                letters[letter] += hand.count(letter);
+            }
+            return hand.count(TileBag.BLANK);
+        }
+        int blanks = 0;
+        for (Tile tile : rack) {
+            int kind = Player.Hand.kind(tile);
+            if (kind == TileBag.BLANK) {
+                blanks++;
+            } else if (kind >= 0) {
+                letters[kind]++;
+            }
+        }
+        return blanks;
+    }
+
+    /**
+     * Checks that a word only contains the letters a-z.
+     * @param word The word to check.
+     * @return true if every character is a letter.
+     */
+    private static boolean isLetters(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) < 'a' || word.charAt(i) > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The state of one search of the trie.
+     */
+    private class Search {
+        private final int[] letters;
+        private int blanks;
+        private final int[] needed;
+        private final int minLength;
+        private final int maxLength;
+        private final Consumer<Anagram> action;
+        /** The letters the blanks used so far stand for. */
+        private final char[] blankLetters;
+
+        Search(int[] letters, int blanks, int[] needed, int minLength, int maxLength, Consumer<Anagram> action) {
+            this.letters = letters;
+            this.blanks = blanks;
+            this.needed = needed;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.action = action;
+            this.blankLetters = new char[blanks];
+        }
+
+        /**
+         * Reports the words filed under a node and walks on into its children.
+         * @param node The node reached.
+         * @param depth The length of its signature.
+         * @param neededMask The letters still needed.
+         * @param blanksUsed The number of blanks used.
+         */
+        void walk(int node, int depth, int neededMask, int blanksUsed) {
+            if (neededMask == 0 && depth >= minLength) {
+                String blankString = blanksUsed == 0 ? "" : new String(blankLetters, 0, blanksUsed);
+                for (int i = wordStarts.get(node); i < wordStarts.get(node + 1); i++) {
+                    action.accept(new Anagram(wordAt.apply(words.get(i)), blankString));
+                }
+            }
+            if (depth == maxLength || (info.get(node) & HAS_CHILDREN) == 0) {
+                return;
+            }
+            for (int child = node + 1; child != NONE; child = siblings.get(child)) {
+                int letter = info.get(child) & LETTER_BITS;
+                if ((neededMask & ((1 << letter) - 1)) != 0) {
+                    break; //a needed letter sorts before this one, so no signature from here uses it
+                }
+                if (letters[letter] > 0) {
+                    letters[letter]--;
+                    needed[letter]--;
+                    walk(child, depth + 1, needed[letter] > 0 ? neededMask : neededMask & ~(1 << letter), blanksUsed);
+                    needed[letter]++;
+                    letters[letter]++;
+                } else if (blanks > 0) { //never a needed letter, as those are counted in letters
+                    blanks--;
+                    blankLetters[blanksUsed] = (char) ('a' + letter);
+                    walk(child, depth + 1, neededMask, blanksUsed + 1);
+                    blanks++;
+                }
+            }
+        }
+    }
+
+    /**
+     * A growable array of ints, used while building.
+     */
+    private static class IntArray {
+        private int[] values = new int[64];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        void set(int index, int value) {
+            values[index] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        IntBuffer buffer() {
+            return IntBuffer.wrap(Arrays.copyOf(values, size));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Test for the AnagramIndex class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+class AnagramIndexTest {
+
+    private static List<Tile> rack(String letters) {
+        List<Tile> rack = new ArrayList<>();
+        for (char c : letters.toCharArray()) {
+            rack.add(new Tile(String.valueOf(c), 0));
+        }
+        return rack;
+    }
+
+    /**
+     * Finds the words a rack can make by checking every word of the dictionary.
+     */
+    private static Set<String> bruteForce(Dictionary d, String rack, String through, int minLength, int maxLength) {
+        Set<String> found = new TreeSet<>();
+        for (int i = 0; i < d.size(); i++) {
+            String word = d.getWord(i);
+            if (word.length() < minLength || word.length() > maxLength) {
+                continue;
+            }
+            int[] left = new int[26];
+            int blanks = 0;
+            for (char c : (rack + through).toLowerCase().toCharArray()) {
+                if (c == '-') {
+                    blanks++;
+                } else {
+                    left[c - 'a']++;
+                }
+            }
+            boolean fits = true;
+            for (char c : word.toCharArray()) {
+                if (left[c - 'a'] > 0) {
+                    left[c - 'a']--;
+                } else if (blanks > 0) {
+                    blanks--;
+                } else {
+                    fits = false;
+                    break;
+                }
+            }
+            for (char c : through.toLowerCase().toCharArray()) {
+                fits &= word.chars().filter(w -> w == c).count() >= through.toLowerCase().chars().filter(t -> t == c).count();
+            }
+            if (fits) {
+                found.add(word);
+            }
+        }
+        return found;
+    }
+
+    private static Set<String> words(List<AnagramIndex.Anagram> anagrams) {
+        Set<String> words = new TreeSet<>();
+        for (AnagramIndex.Anagram anagram : anagrams) {
+            org.junit.jupiter.api.Assertions.assertTrue(words.add(anagram.word()), "found twice: " + anagram.word());
+        }
+        return words;
+    }
+
+    private static Map<String, String> blanks(List<AnagramIndex.Anagram> anagrams) {
+        Map<String, String> blanks = new TreeMap<>();
+        for (AnagramIndex.Anagram anagram : anagrams) {
+            blanks.put(anagram.word(), anagram.blanks());
+        }
+        return blanks;
+    }
+
+    @Test
+    @DisplayName("Testing the words of a rack, with blanks and board letters, are exactly the ones it can make")
+    void matchesBruteForce() {
+        Dictionary d = LexiconRegistry.standard();
+        AnagramIndex index = d.getAnagramIndex();
+        org.junit.jupiter.api.Assertions.assertEquals(d.size(), index.wordCount());
+        for (String rack : new String[] {"retains", "aeiouxz", "qu-tsea", "--abcde", "e"}) {
+            org.junit.jupiter.api.Assertions.assertEquals(bruteForce(d, rack, "", 2, rack.length()), words(index.words(rack(rack), "")), rack);
+            org.junit.jupiter.api.Assertions.assertEquals(bruteForce(d, rack, "", 2, rack.length()), words(index.words(new Player.Hand(rack(rack)), "")), rack);
+            org.junit.jupiter.api.Assertions.assertEquals(bruteForce(d, rack, "", rack.length(), rack.length()), words(index.bingos(rack(rack))), rack);
+            org.junit.jupiter.api.Assertions.assertEquals(bruteForce(d, rack, "sz", 2, rack.length() + 2), words(index.words(rack(rack), "sz")), rack);
+        }
+    }
+
+    @Test
+    @DisplayName("Testing blanks are only used for letters the rack has run out of")
+    void blanks() {
+        Dictionary d = new Dictionary();
+        for (String word : new String[] {"eat", "tea", "ate", "teat", "at", "zoo"}) {
+            d.addWord(word);
+        }
+        org.junit.jupiter.api.Assertions.assertEquals(Map.of("at", "", "ate", "e", "eat", "e", "tea", "e"), blanks(d.getAnagramIndex().words(rack("at-"), "")));
+        org.junit.jupiter.api.Assertions.assertEquals(Map.of("at", "", "ate", "e", "eat", "e", "tea", "e", "teat", "e"), blanks(d.getAnagramIndex().words(rack("at-"), "t")));
+        org.junit.jupiter.api.Assertions.assertEquals(List.of(new AnagramIndex.Anagram("at", "")), d.getAnagramIndex().bingos(rack("ta")));
+        org.junit.jupiter.api.Assertions.assertTrue(d.getAnagramIndex().bingos(rack("zo")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Testing the index of a lexicon image finds the same words as a built one")
+    void mapped() throws IOException {
+        File file = File.createTempFile("words", ".csv");
+        file.deleteOnExit();
+        new File(LexiconCompiler.imageFile(file.getPath())).deleteOnExit();
+        Files.copy(Paths.get(LexiconRegistry.STANDARD_WORDS), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        LexiconCompiler.compile(file.getPath(), LexiconCompiler.imageFile(file.getPath()));
+
+        Dictionary mapped = new Dictionary();
+        mapped.load(file.getPath());
+        org.junit.jupiter.api.Assertions.assertTrue(mapped.isMapped());
+        Dictionary built = new Dictionary();
+        built.readWords(file.getPath());
+        org.junit.jupiter.api.Assertions.assertEquals(built.getAnagramIndex().nodeCount(), mapped.getAnagramIndex().nodeCount());
+        for (String rack : new String[] {"stare-s", "plonk-y"}) {
+            org.junit.jupiter.api.Assertions.assertEquals(words(built.getAnagramIndex().words(rack(rack), "")), words(mapped.getAnagramIndex().words(rack(rack), "")));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * An AutoSaver saves a game in the background, so the thread playing the game (the event dispatch thread
+ * in the window) never waits for the disk. Saving takes a snapshot of the game with GameCodec, which only
+ * takes microseconds, and hands it to a writer thread.
+ *
+ * If games are saved faster than they can be written, only the newest snapshot waiting is written. Each
+ * save is written to a temporary file which is then renamed over the save file, so the save file is
+ * always a complete game, even if the program stops part way through a write.
+ *
+ * As a GameView, it saves the game every time the game is updated (after every turn).
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class AutoSaver extends NullGameView implements Closeable {
+    /** A snapshot waiting to be written, and the saves waiting for it. */
+    private record Snapshot(byte[] bytes, long takenNanos, CompletableFuture<Void> written) { }
+
+    /** The file games are saved to. */
+    private final Path file;
+    /** The temporary file each save is written to before it replaces the save file. */
+    private final Path tempFile;
+    /** The thread which writes the snapshots. */
+    private final ExecutorService writer;
+    /** The newest snapshot which hasn't been written yet, or null if there is none. */
+    private final AtomicReference<Snapshot> pending = new AtomicReference<>();
+
+    /** The number of snapshots written. */
+    private final AtomicLong saves = new AtomicLong();
+    /** The number of snapshots replaced by a newer one before they were written. */
+    private final AtomicLong coalesced = new AtomicLong();
+    /** How long the last save took, from its snapshot to it being on disk, in nanoseconds. */
+    private volatile long lastSaveNanos = -1;
+
+    /**
+     * Constructs a new AutoSaver.
+     * @param fileName The file games are saved to.
+     */
+    public AutoSaver(String fileName) {
+        file = Paths.get(fileName).toAbsolutePath();
+        tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Autosave");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Saves the game after every turn.
+     * @param model The game which was updated.
+     */
+    @Override
+    public void update(GameModel model) {
+        save(model);
+    }
+
+    /**
+     * Takes a snapshot of a game and writes it in the background. This must be called on the thread which
+     * changes the game, so the snapshot is taken between changes.
+     * @param model The game to save.
+     * @return Completes once this snapshot, or a newer one, is written, or completes exceptionally if the
+     *         write failed.
+     */
+    public CompletableFuture<Void> save(GameModel model) {
+        Snapshot snapshot = new Snapshot(GameCodec.encode(model), System.nanoTime(), new CompletableFuture<>());
+        Snapshot replaced = pending.getAndSet(snapshot);
+        if (replaced == null) {
+            try {
+                writer.execute(this::writePending);
+            } catch (RejectedExecutionException e) {
+                pending.compareAndSet(snapshot, null);
+                snapshot.written.completeExceptionally(new IOException("The autosaver is closed"));
+            }
+        } else {
+            //the write already queued will write this snapshot instead, which also satisfies the replaced save
+            coalesced.incrementAndGet();
+            snapshot.written.whenComplete((v, e) -> {
+                if (e == null) {
+                    replaced.written.complete(null);
+                } else {
+                    replaced.written.completeExceptionally(e);
+                }
+            });
+        }
+        return snapshot.written;
+    }
+
+    /**
+     * Waits until every save made so far has been written.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (ExecutionException | RejectedExecutionException e) {
+            //nothing is left to write once the writer has stopped
+        }
+    }
+
+    /**
+     * Writes any saves still waiting, then stops the writer thread.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns how long the last save took, from taking its snapshot to it being on disk.
+     * @return The time in nanoseconds, or -1 if nothing has been saved yet.
+     */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /**
+     * Returns the number of snapshots written.
+     * @return The save count.
+     */
+    public long getSaveCount() {
+        return saves.get();
+    }
+
+    /**
+     * Returns the number of snapshots which were skipped because a newer one was saved before they were written.
+     * @return The coalesced count.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Writes the newest snapshot waiting, on the writer thread.
+     */
+    private void writePending() {
+        Snapshot snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            write(snapshot.bytes);
+            saves.incrementAndGet();
+            lastSaveNanos = System.nanoTime() - snapshot.takenNanos;
+            snapshot.written.complete(null);
+        } catch (IOException e) {
+            System.err.println("Error saving game: " + e.getMessage());
+            snapshot.written.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Writes a save to the temporary file, forces it to disk and renames it over the save file.
+     * @param bytes The encoded game.
+     * @throws IOException If the save can't be written.
+     */
+    private void write(byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
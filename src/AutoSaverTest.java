@@ -0,0 +1,85 @@
+/**
+ * Test for the AutoSaver class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+class AutoSaverTest {
+
+    private GameModel newGame() {
+        GameModel model = new GameModel();
+        model.addPlayer(new Player("P1"));
+        model.addPlayer(new Player("P2"));
+        model.setupGame(new TileBag(3));
+        model.board.setDefaultBoard();
+        return model;
+    }
+
+    @Test
+    @DisplayName("Testing a game saved in the background can be loaded")
+    void save() throws Exception {
+        File file = File.createTempFile("autosave", ".ser");
+        file.deleteOnExit();
+        AutoSaver saver = new AutoSaver(file.getPath());
+        GameModel model = newGame();
+        model.players.getFirst().setScore(42);
+
+        saver.save(model).get(10, TimeUnit.SECONDS);
+        saver.close();
+
+        GameModel loaded = GameModel.loadGame(file.getPath());
+        org.junit.jupiter.api.Assertions.assertNotNull(loaded);
+        org.junit.jupiter.api.Assertions.assertEquals(42, loaded.players.getFirst().getScore());
+        org.junit.jupiter.api.Assertions.assertTrue(saver.getLastSaveNanos() >= 0);
+        org.junit.jupiter.api.Assertions.assertFalse(Files.exists(Paths.get(file.getPath() + ".tmp")));
+    }
+
+    @Test
+    @DisplayName("Testing a burst of saves ends with the newest one written")
+    void coalesce() throws Exception {
+        File file = File.createTempFile("autosave", ".ser");
+        file.deleteOnExit();
+        AutoSaver saver = new AutoSaver(file.getPath());
+        GameModel model = newGame();
+
+        CompletableFuture<Void> first = null;
+        for (int i = 0; i < 200; i++) {
+            model.players.getFirst().setScore(i);
+            CompletableFuture<Void> saved = saver.save(model);
+            if (first == null) {
+                first = saved;
+            }
+        }
+        saver.flush();
+        saver.close();
+
+        org.junit.jupiter.api.Assertions.assertTrue(first.isDone());
+        org.junit.jupiter.api.Assertions.assertEquals(200, saver.getSaveCount() + saver.getCoalescedCount());
+        org.junit.jupiter.api.Assertions.assertEquals(199, GameModel.loadGame(file.getPath()).players.getFirst().getScore());
+    }
+
+    @Test
+    @DisplayName("Testing the game is saved after every turn")
+    void autosave() throws Exception {
+        File file = File.createTempFile("autosave", ".ser");
+        file.deleteOnExit();
+        AutoSaver saver = new AutoSaver(file.getPath());
+        GameModel model = newGame();
+        model.addView(saver);
+
+        model.passTurn();
+        model.nextTurn();
+        saver.flush();
+        saver.close();
+
+        org.junit.jupiter.api.Assertions.assertEquals(1, GameModel.loadGame(file.getPath()).currentPlayerIndex);
+    }
+}
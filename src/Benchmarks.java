@@ -0,0 +1,508 @@
+import java.io.*;
+import java.util.*;
+
+/**
+ * Benchmarks times the hot paths of the game (the dictionary, board scanning, scoring, playing a word and
+ * the AI search) on a fixed set of recorded mid-game positions, so changes can be compared between
+ * releases. Each benchmark is warmed up before it is measured, and the results are written as CSV,
+ * one line per benchmark, with the time per operation in nanoseconds.
+ *
+ * The positions are recorded from seeded games between AI players with the record command, and read
+ * back from a plain text file, so the same positions are used no matter how the AI changes.
+ *
+ * Usage: java Benchmarks [positions file] [csv file] or java Benchmarks record [positions file] [games] [seed]
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class Benchmarks {
+    /** The file the positions are read from by default. */
+    public static final String POSITIONS_FILE = "benchmark_positions.txt";
+    /** The word list the benchmarks use. */
+    public static final String WORDS_FILE = "scrabble_acceptedwords.csv";
+    /** The turns of each recorded game a position is taken after. */
+    private static final int[] RECORDED_TURNS = {4, 8, 12, 16};
+    /** The header of the CSV results. */
+    public static final String CSV_HEADER = "benchmark,positions,iterations,ops_per_iteration,mean_ns,stdev_ns,min_ns,max_ns";
+
+    /** Something to time, which is run once per operation. */
+    public interface Benchmark {
+        /**
+         * Runs one operation.
+         * @param op The number of the operation, used to cycle through the positions.
+         * @return Any result of the operation, so it is not optimized away.
+         */
+        long run(int op);
+    }
+
+    /** Results are added into here so the JIT can't remove the benchmarked code. */
+    private static volatile long sink;
+
+    /** The positions being benchmarked. */
+    private final List<Position> positions;
+    /** The dictionary the positions are checked against. */
+    private final Dictionary dictionary;
+    /** How long each benchmark is warmed up for, in nanoseconds. */
+    private long warmupNanos = 1_000_000_000L;
+    /** How long each measured iteration should take, in nanoseconds. */
+    private long iterationNanos = 100_000_000L;
+    /** The number of measured iterations. */
+    private int iterations = 10;
+
+    /**
+     * Constructs Benchmarks over a set of positions.
+     * @param positions The positions to benchmark.
+     */
+    public Benchmarks(List<Position> positions) {
+        if (positions.isEmpty()) {
+            throw new IllegalArgumentException("No positions to benchmark");
+        }
+        this.positions = positions;
+        dictionary = LexiconRegistry.get(WORDS_FILE);
+    }
+
+    /**
+     * Sets how long each benchmark is run for.
+     * @param warmupNanos How long to warm up for before measuring, in nanoseconds.
+     * @param iterationNanos How long each measured iteration should take, in nanoseconds.
+     * @param iterations The number of measured iterations.
+     */
+    public void setTiming(long warmupNanos, long iterationNanos, int iterations) {
+        this.warmupNanos = warmupNanos;
+        this.iterationNanos = iterationNanos;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Runs every benchmark and writes the results.
+     * @param out Where the CSV results are written, one line per benchmark after the header.
+     */
+    public void runAll(PrintStream out) {
+        out.println(CSV_HEADER);
+
+        out.println(measure("Dictionary.load", op -> {
+            Dictionary d = new Dictionary();
+            d.load(WORDS_FILE);
+            return d.size();
+        }));
+        out.println(measure("Dictionary.load (word list, without the lexicon image)", op -> {
+            Dictionary d = new Dictionary();
+            try {
+                d.readWords(WORDS_FILE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return d.size();
+        }));
+
+        List<String> words = new ArrayList<>();
+        for (Position position : positions) {
+            for (String word : position.words()) {
+                words.add(word);
+                words.add(word + "q"); //a near miss, which is not a word
+            }
+        }
+        out.println(measure("Dictionary.checkWord", op -> dictionary.checkWord(words.get(op % words.size())) ? 1 : 0));
+
+        List<List<Tile>> racks = new ArrayList<>();
+        for (Position position : positions) {
+            List<Tile> rack = new ArrayList<>();
+            for (char c : position.hand.toCharArray()) {
+                rack.add(Position.tile(c));
+            }
+            racks.add(rack);
+        }
+        AnagramIndex anagrams = dictionary.getAnagramIndex();
+        out.println(measure("AnagramIndex.words", op -> anagrams.words(racks.get(op % racks.size()), "").size()));
+
+        List<WordPattern> wordPatterns = new ArrayList<>();
+        for (Position position : positions) {
+            for (String word : position.words()) {
+                StringBuilder sb = new StringBuilder(word);
+                for (int i = 0; i < sb.length(); i += 2) {
+                    sb.setCharAt(i, '_'); //every other letter known, as when filling in a crossing line
+                }
+                wordPatterns.add(WordPattern.parse(sb.toString()));
+            }
+        }
+        int[] matches = new int[1];
+        out.println(measure("Dictionary.forEachMatch", op -> {
+            matches[0] = 0;
+            dictionary.forEachMatch(wordPatterns.get(op % wordPatterns.size()), word -> matches[0]++);
+            return matches[0];
+        }));
+
+        TileBag[] bag = {new TileBag(0)};
+        out.println(measure("TileBag.drawTile", op -> {
+            if (bag[0].isEmpty()) {
+                bag[0] = new TileBag(op); //a full bag again, so every draw is from a bag of a realistic size
+            }
+            return bag[0].drawTile().getScore();
+        }));
+
+        List<Board> boards = new ArrayList<>();
+        for (Position position : positions) {
+            boards.add(position.toBoard(dictionary));
+        }
+        int lines = 2 * Board.SIZE;
+        out.println(measure("Board.extractPattern", op -> {
+            Board board = boards.get(op / lines % boards.size());
+            return board.extractPattern(op % Board.SIZE, op % lines < Board.SIZE).length;
+        }));
+        List<String[]> patterns = new ArrayList<>();
+        for (Board board : boards) {
+            for (int line = 0; line < lines; line++) {
+                patterns.add(board.extractPattern(line % Board.SIZE, line < Board.SIZE));
+            }
+        }
+        out.println(measure("Board.findAnchors(pattern)", op -> boards.getFirst().findAnchors(patterns.get(op % patterns.size())).size()));
+        out.println(measure("Board.findAnchors(line)", op -> {
+            Board board = boards.get(op / lines % boards.size());
+            return board.findAnchors(op % Board.SIZE, op % lines < Board.SIZE).size();
+        }));
+
+        //the best play of each position, committed to a copy of its board, to be scored again and again
+        List<GameModel> played = new ArrayList<>();
+        List<ArrayList<PlacedTile>> plays = new ArrayList<>();
+        List<Position> playable = new ArrayList<>();
+        for (Position position : positions) {
+            GameModel model = position.toModel(dictionary);
+            AIPlayer ai = (AIPlayer) model.getCurrentPlayer();
+            ai.setParallelism(1);
+            Move best = ai.findBestMove();
+            if (best != null) {
+                model.board.commitTiles(best.placedTiles);
+                played.add(model);
+                plays.add(best.placedTiles);
+                playable.add(position);
+            }
+        }
+        if (!played.isEmpty()) {
+            out.println(measure("GameModel.scorePlacedTiles", op -> {
+                int i = op % played.size();
+                return played.get(i).scorePlacedTiles(plays.get(i));
+            }));
+
+            Player player = new Player("Benchmark");
+            out.println(measure("Board.copy (baseline for Player.playWord)", op -> playable.get(op % playable.size()).toBoard(dictionary).isEmpty() ? 1 : 0));
+            out.println(measure("Player.playWord", op -> {
+                int i = op % playable.size();
+                return player.playWord(playable.get(i).toBoard(dictionary), plays.get(i)) ? 1 : 0;
+            }));
+        }
+
+        List<AIPlayer> ais = new ArrayList<>();
+        for (Position position : positions) {
+            GameModel model = position.toModel(dictionary);
+            AIPlayer ai = (AIPlayer) model.getCurrentPlayer();
+            ai.setParallelism(1);
+            ai.setTranspositionTable(new TranspositionTable(0)); //time the search, not the table
+            ais.add(ai);
+        }
+        out.println(measure("AIPlayer.findBestMove", op -> {
+            Move best = ais.get(op % ais.size()).findBestMove();
+            return best == null ? 0 : best.score;
+        }));
+        TranspositionTable table = new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY);
+        for (AIPlayer ai : ais) {
+            ai.setTranspositionTable(table);
+        }
+        out.println(measure("AIPlayer.findBestMove (transposition table)", op -> {
+            Move best = ais.get(op % ais.size()).findBestMove();
+            return best == null ? 0 : best.score;
+        }));
+    }
+
+    /**
+     * Warms up and times a benchmark. The number of operations per iteration is doubled during the warmup
+     * until an iteration takes long enough to time accurately.
+     * @param name The name of the benchmark.
+     * @param benchmark The benchmark to time.
+     * @return A CSV line of the results.
+     */
+    public String measure(String name, Benchmark benchmark) {
+        int ops = 1;
+        long warmupEnd = System.nanoTime() + warmupNanos;
+        do {
+            if (time(benchmark, ops) < iterationNanos && ops < (1 << 30)) {
+                ops *= 2;
+            }
+        } while (System.nanoTime() < warmupEnd);
+
+        double[] perOp = new double[iterations];
+        double total = 0;
+        for (int i = 0; i < iterations; i++) {
+            perOp[i] = (double) time(benchmark, ops) / ops;
+            total += perOp[i];
+        }
+        double mean = total / iterations;
+        double variance = 0;
+        double min = Double.MAX_VALUE;
+        double max = 0;
+        for (double t : perOp) {
+            variance += (t - mean) * (t - mean);
+            min = Math.min(min, t);
+            max = Math.max(max, t);
+        }
+        double stdev = iterations > 1 ? Math.sqrt(variance / (iterations - 1)) : 0;
+        return String.format(Locale.ROOT, "\"%s\",%d,%d,%d,%.1f,%.1f,%.1f,%.1f",
+                name, positions.size(), iterations, ops, mean, stdev, min, max);
+    }
+
+    /**
+     * Runs a number of operations of a benchmark.
+     * @return How long they took, in nanoseconds.
+     */
+    private static long time(Benchmark benchmark, int ops) {
+        long result = 0;
+        long start = System.nanoTime();
+        for (int op = 0; op < ops; op++) {
+            result += benchmark.run(op);
+        }
+        long nanos = System.nanoTime() - start;
+        sink += result;
+        return nanos;
+    }
+
+    /**
+     * Plays seeded games between two AI players, taking positions part way through each game.
+     * @param games The number of games to play.
+     * @param seed The seed of the first game; each game after uses the next seed.
+     * @return The recorded positions.
+     */
+    public static List<Position> record(int games, long seed) {
+        List<Position> positions = new ArrayList<>();
+        for (int g = 0; g < games; g++) {
+            HeadlessGame game = new HeadlessGame();
+            game.addAIPlayer("AIPlayer1").setParallelism(1);
+            game.addAIPlayer("AIPlayer2").setParallelism(1);
+            GameModel model = game.getModel();
+            model.setupGame(new TileBag(seed + g));
+            model.board.setDefaultBoard();
+
+            TurnScheduler scheduler = new TurnScheduler(model);
+            int turn = 0;
+            for (int recordAt : RECORDED_TURNS) {
+                turn += scheduler.runAITurns(recordAt - turn);
+                if (turn < recordAt) {
+                    break; //the game ended early
+                }
+                positions.add(Position.of(model));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Runs the benchmarks, or records positions.
+     * @param args Either the positions file (default benchmark_positions.txt) and the CSV file to write the
+     *             results to (default standard output), or "record", the positions file, the number of
+     *             games (default 8) and the seed (default 1).
+     * @throws IOException If the positions or results can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("record")) {
+            String file = args.length > 1 ? args[1] : POSITIONS_FILE;
+            int games = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+            long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+            List<Position> positions = record(games, seed);
+            Position.write(positions, file);
+            System.out.println("Recorded " + positions.size() + " positions to " + file);
+            return;
+        }
+
+        String file = args.length > 0 ? args[0] : POSITIONS_FILE;
+        Benchmarks benchmarks = new Benchmarks(Position.read(file));
+        if (args.length > 1) {
+            try (PrintStream out = new PrintStream(new FileOutputStream(args[1]))) {
+                benchmarks.runAll(out);
+            }
+        } else {
+            benchmarks.runAll(System.out);
+        }
+    }
+
+    /**
+     * A Position is a board part way through a game and the hand of the player whose turn it is. In the
+     * positions file each position is a line "position", fifteen rows of the board (a letter for each
+     * tile, lowercase for a blank tile, '.' for an empty square), then a line "hand" followed by the
+     * letters of the hand ('-' for a blank tile).
+     */
+    public static class Position {
+        /** Used to look up the score of each letter. */
+        private static final TileBag LETTER_SCORES = new TileBag();
+
+        /** The rows of the board. */
+        public final String[] rows;
+        /** The letters of the hand. */
+        public final String hand;
+
+        /**
+         * Constructs a new Position.
+         * @param rows The rows of the board.
+         * @param hand The letters of the hand.
+         */
+        public Position(String[] rows, String hand) {
+            if (rows.length != Board.SIZE) {
+                throw new IllegalArgumentException("A position needs " + Board.SIZE + " rows");
+            }
+            this.rows = rows;
+            this.hand = hand;
+        }
+
+        /**
+         * Records the board of a game and the hand of the current player.
+         * @param model The game.
+         * @return The position.
+         */
+        public static Position of(GameModel model) {
+            String[] rows = new String[Board.SIZE];
+            for (int row = 0; row < Board.SIZE; row++) {
+                StringBuilder sb = new StringBuilder();
+                for (int col = 0; col < Board.SIZE; col++) {
+                    Tile tile = model.board.getPermTile(row, col);
+                    if (tile == null) {
+                        sb.append('.');
+                    } else if (tile.isBlank()) {
+                        sb.append(tile.getLetter().toLowerCase());
+                    } else {
+                        sb.append(tile.getLetter());
+                    }
+                }
+                rows[row] = sb.toString();
+            }
+            StringBuilder hand = new StringBuilder();
+            for (Tile tile : model.getCurrentPlayer().hand) {
+                hand.append(tile.isBlank() ? "-" : tile.getLetter());
+            }
+            return new Position(rows, hand.toString());
+        }
+
+        /**
+         * Builds a standard board with the position's tiles committed.
+         * @param dictionary The dictionary the board checks words with.
+         * @return The board.
+         */
+        public Board toBoard(Dictionary dictionary) {
+            Board board = new Board();
+            board.setDefaultBoard();
+            board.setDictionary(dictionary);
+            ArrayList<PlacedTile> tiles = new ArrayList<>();
+            for (int row = 0; row < Board.SIZE; row++) {
+                for (int col = 0; col < Board.SIZE; col++) {
+                    char c = rows[row].charAt(col);
+                    if (c != '.') {
+                        tiles.add(new PlacedTile(row, col, tile(c)));
+                    }
+                }
+            }
+            board.commitTiles(tiles);
+            return board;
+        }
+
+        /**
+         * Builds a game on the position's board, where it is an AI player's turn with the position's hand.
+         * @param dictionary The dictionary the board checks words with.
+         * @return The game.
+         */
+        public GameModel toModel(Dictionary dictionary) {
+            GameModel model = new GameModel(dictionary);
+            model.board = toBoard(dictionary);
+            AIPlayer ai = new AIPlayer("AIPlayer", model);
+            for (char c : hand.toCharArray()) {
+                ai.hand.add(tile(c));
+            }
+            model.addPlayer(ai);
+            return model;
+        }
+
+        /**
+         * Returns every word of two or more letters on the board.
+         * @return The words, in lowercase.
+         */
+        public List<String> words() {
+            List<String> words = new ArrayList<>();
+            for (int line = 0; line < 2 * Board.SIZE; line++) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i <= Board.SIZE; i++) {
+                    char c = i == Board.SIZE ? '.' : line < Board.SIZE ? rows[line].charAt(i) : rows[i].charAt(line - Board.SIZE);
+                    if (c != '.') {
+                        sb.append(Character.toLowerCase(c));
+                    } else {
+                        if (sb.length() > 1) {
+                            words.add(sb.toString());
+                        }
+                        sb.setLength(0);
+                    }
+                }
+            }
+            return words;
+        }
+
+        /**
+         * Makes the tile for a character of a position.
+         * @param c An uppercase letter, a lowercase letter for a blank tile played as that letter, or '-' for a blank tile.
+         * @return The tile.
+         */
+        private static Tile tile(char c) {
+            if (c == '-' || Character.isLowerCase(c)) {
+                Tile blank = new Tile("-", 0);
+                if (c != '-') {
+                    blank.setLetter(String.valueOf(Character.toUpperCase(c)));
+                }
+                return blank;
+            }
+            String letter = String.valueOf(c);
+            return new Tile(letter, LETTER_SCORES.scoreLetter(letter));
+        }
+
+        /**
+         * Reads positions from a file.
+         * @param file The positions file.
+         * @return The positions, in the order they are in the file.
+         * @throws IOException If the file can't be read or is not a positions file.
+         */
+        public static List<Position> read(String file) throws IOException {
+            List<Position> positions = new ArrayList<>();
+            try (BufferedReader br = new BufferedReader(new FileReader(file))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    if (!line.trim().equals("position")) {
+                        continue;
+                    }
+                    String[] rows = new String[Board.SIZE];
+                    for (int row = 0; row < Board.SIZE; row++) {
+                        rows[row] = br.readLine();
+                        if (rows[row] == null || rows[row].length() != Board.SIZE) {
+                            throw new IOException("Bad row " + row + " of position " + positions.size() + " in " + file);
+                        }
+                    }
+                    String hand = br.readLine();
+                    if (hand == null || !hand.startsWith("hand")) {
+                        throw new IOException("Missing hand of position " + positions.size() + " in " + file);
+                    }
+                    positions.add(new Position(rows, hand.substring(4).trim()));
+                }
+            }
+            return positions;
+        }
+
+        /**
+         * Writes positions to a file.
+         * @param positions The positions.
+         * @param file The positions file to write.
+         * @throws IOException If the file can't be written.
+         */
+        public static void write(List<Position> positions, String file) throws IOException {
+            try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+                for (Position position : positions) {
+                    out.println("position");
+                    for (String row : position.rows) {
+                        out.println(row);
+                    }
+                    out.println("hand " + position.hand);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Test for the Benchmarks class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+class BenchmarksTest {
+
+    @Test
+    @DisplayName("Testing positions are written and read back")
+    void positions() throws IOException {
+        List<Benchmarks.Position> recorded = Benchmarks.record(1, 3);
+        org.junit.jupiter.api.Assertions.assertFalse(recorded.isEmpty());
+
+        File file = File.createTempFile("positions", ".txt");
+        file.deleteOnExit();
+        Benchmarks.Position.write(recorded, file.getPath());
+        List<Benchmarks.Position> read = Benchmarks.Position.read(file.getPath());
+
+        org.junit.jupiter.api.Assertions.assertEquals(recorded.size(), read.size());
+        for (int i = 0; i < read.size(); i++) {
+            org.junit.jupiter.api.Assertions.assertArrayEquals(recorded.get(i).rows, read.get(i).rows);
+            org.junit.jupiter.api.Assertions.assertEquals(recorded.get(i).hand, read.get(i).hand);
+        }
+    }
+
+    @Test
+    @DisplayName("Testing a position rebuilds its board")
+    void toBoard() {
+        String[] rows = new String[Board.SIZE];
+        Arrays.fill(rows, "...............");
+        rows[7] = "......CaT......";
+        Benchmarks.Position position = new Benchmarks.Position(rows, "ABC-");
+        Board board = position.toBoard(new Dictionary());
+
+        org.junit.jupiter.api.Assertions.assertEquals("C", board.getPermTile(7, 6).getLetter());
+        org.junit.jupiter.api.Assertions.assertTrue(board.getPermTile(7, 7).isBlank());
+        org.junit.jupiter.api.Assertions.assertEquals("A", board.getPermTile(7, 7).getLetter());
+        org.junit.jupiter.api.Assertions.assertEquals(List.of("cat"), position.words());
+    }
+
+    @Test
+    @DisplayName("Testing a benchmark is measured as a CSV line")
+    void measure() {
+        Benchmarks benchmarks = new Benchmarks(Benchmarks.record(1, 3));
+        benchmarks.setTiming(1_000_000, 1_000_000, 3);
+        String line = benchmarks.measure("test", op -> op);
+
+        String[] fields = line.split(",");
+        org.junit.jupiter.api.Assertions.assertEquals(Benchmarks.CSV_HEADER.split(",").length, fields.length);
+        org.junit.jupiter.api.Assertions.assertEquals("\"test\"", fields[0]);
+        org.junit.jupiter.api.Assertions.assertEquals("3", fields[2]);
+    }
+}
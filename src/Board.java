@@ -1,12 +1,16 @@
-import java.awt.*;
 import java.util.*;
 import java.util.List;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
  * A Board models a scrabble game board, taking a 15 x 15 grid shape to allow players to
  * place tiles and create words.
  *
+ * The committed tiles are kept as a BoardSnapshot, which is replaced on every commit, so the AI and the
+ * word checks can work on a snapshot of the board while it changes.
+ *
  * @author Cole Galway
  * @author Taylor Brumwell
  * @version 12/05/2025
@@ -19,12 +23,30 @@ public class Board implements Serializable {
     /** A 2-dimensional list of temporary tiles. */
     private Tile[][] tempGrid = new Tile[SIZE][SIZE];
 
+    /** A line mask with a bit set for every square of a row or column. */
+    public static final int FULL_LINE = BoardSnapshot.FULL_LINE;
+    /** For each row, bit c is set if tempGrid has a tile in column c. */
+    private transient short[] tempRowMasks = new short[SIZE];
+    /** For each column, bit r is set if tempGrid has a tile in row r. */
+    private transient short[] tempColMasks = new short[SIZE];
+    /** The XOR of the Zobrist keys of the tiles in tempGrid. */
+    private transient long tempHash;
+    /**
+     * The committed tiles (the same as grid) with their masks and cross-checks. Each commit replaces it
+     * with a new snapshot sharing the rows that didn't change, so it can be handed out as it is.
+     */
+    private transient BoardSnapshot committed;
+
     public enum Premium {
         NORMAL, DOUBLE_LETTER, TRIPLE_LETTER, DOUBLE_WORD, TRIPLE_WORD, CENTER
     }
 
+    /** The premium squares. Shared with the snapshots, so it is replaced rather than changed. */
     private Premium[][] premiums = new Premium[SIZE][SIZE];
 
+    /** A mask allowing every letter, used for squares with no perpendicular word. */
+    public static final int ALL_LETTERS = (1 << Dawg.LETTERS) - 1;
+
     /**
      * Constructs a new Board with no parameters, builds the empty grid.
      */
@@ -35,6 +57,7 @@ public class Board implements Serializable {
                 premiums[i][j] = Premium.NORMAL;
             }
         }
+        committed = new BoardSnapshot(premiums, null);
     }
 
     /**
@@ -48,7 +71,7 @@ public class Board implements Serializable {
             System.out.println("Invalid coordinate");
             return null;
         }
-        return tempGrid[row][col] != null ? tempGrid[row][col] : grid[row][col];
+        return tempGrid[row][col] != null ? tempGrid[row][col] : committed.getTile(row, col);
     }
 
     /**
@@ -58,7 +81,24 @@ public class Board implements Serializable {
      * @return The tile placed at the specified location
      */
     public Tile getPermTile(int row, int col) {
-        return grid[row][col];
+        return committed.getTile(row, col);
+    }
+
+    /**
+     * Returns an unchangeable view of the tiles committed to the board, which can be read from other threads
+     * while the game carries on. It costs nothing, as the board keeps its committed tiles as a snapshot.
+     * @return The snapshot of the committed tiles.
+     */
+    public BoardSnapshot snapshot() {
+        return committed;
+    }
+
+    /**
+     * Returns the Zobrist hash of the board: its committed tiles, its temporary tiles and its premium squares.
+     * @return The hash.
+     */
+    public long getHash() {
+        return committed.getHash() ^ tempHash;
     }
 
     /**
@@ -66,14 +106,81 @@ public class Board implements Serializable {
      * @return True if the board is empty, false otherwise.
      */
     public boolean isEmpty() {
-        for (int r = 0; r < this.SIZE; r++) {
-            for (int c = 0; c < this.SIZE; c++) {
-                if (this.grid[r][c] != null) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return committed.isEmpty();
+    }
+
+    /**
+     * Returns the number of tiles committed to the board.
+     * @return The tile count.
+     */
+    public int getTileCount() {
+        return committed.getTileCount();
+    }
+
+    /**
+     * Returns which squares of a line hold a tile committed to the board.
+     * @param lineIndex The index of the row (horizontal) or column (vertical).
+     * @param horizontal Whether the line is a row or not.
+     * @return A mask with bit i set if square i along the line holds a tile.
+     */
+    public int getLineMask(int lineIndex, boolean horizontal) {
+        return committed.getLineMask(lineIndex, horizontal);
+    }
+
+    /**
+     * Returns the letter of the tile committed to a square.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @return The index from 0 ('a') to 25 ('z'), or Dawg.NONE if the square is empty or its tile has no letter.
+     */
+    public int getLetterIndex(int row, int col) {
+        return committed.getLetterIndex(row, col);
+    }
+
+    /**
+     * Determines whether a square is next to a tile committed to the board, in any direction.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @return True if a neighbouring square holds a tile.
+     */
+    public boolean touchesTile(int row, int col) {
+        return committed.touchesTile(row, col);
+    }
+
+    /**
+     * Finds the first square of the run of tiles (committed or temporary) which a square is part of, or
+     * would join if a tile were placed there.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether to look along the row or down the column.
+     * @return The column (horizontal) or row (vertical) the run starts at.
+     */
+    public int wordStart(int row, int col, boolean horizontal) {
+        return BoardSnapshot.runStart(occupied(row, col, horizontal), horizontal ? col : row);
+    }
+
+    /**
+     * Finds the last square of the run of tiles (committed or temporary) which a square is part of, or
+     * would join if a tile were placed there.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether to look along the row or down the column.
+     * @return The column (horizontal) or row (vertical) the run ends at.
+     */
+    public int wordEnd(int row, int col, boolean horizontal) {
+        return BoardSnapshot.runEnd(occupied(row, col, horizontal), horizontal ? col : row);
+    }
+
+    /**
+     * Returns which squares of the line through a square hold a committed or temporary tile.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether the line is the row or the column.
+     * @return The occupancy mask of the line.
+     */
+    private int occupied(int row, int col, boolean horizontal) {
+        int temp = horizontal ? tempRowMasks[row] : tempColMasks[col];
+        return (committed.getLineMask(horizontal ? row : col, horizontal) | temp) & FULL_LINE;
     }
 
     /**
@@ -87,10 +194,15 @@ public class Board implements Serializable {
             return false;
         }
         //space is already occupied
-        if (grid[row][col] != null || tempGrid[row][col] != null) {
+        if (committed.getTile(row, col) != null || tempGrid[row][col] != null) {
             return false;
         }
         tempGrid[row][col] = tile;
+        if (tile != null) {
+            tempRowMasks[row] |= (short) (1 << col);
+            tempColMasks[col] |= (short) (1 << row);
+            tempHash ^= Zobrist.tempSquare(row, col, tile);
+        }
         return true;
     }
 
@@ -107,7 +219,10 @@ public class Board implements Serializable {
         if (tempGrid[row][col] == null) {
             return;
         }
+        tempHash ^= Zobrist.tempSquare(row, col, tempGrid[row][col]);
         tempGrid[row][col] = null;
+        tempRowMasks[row] &= (short) ~(1 << col);
+        tempColMasks[col] &= (short) ~(1 << row);
     }
 
     /**
@@ -116,20 +231,50 @@ public class Board implements Serializable {
      */
     public void commitTiles(ArrayList<PlacedTile> placedTiles) {
         for (PlacedTile placedTile : placedTiles) {
+            removeTempTile(placedTile.row, placedTile.col);
             grid[placedTile.row][placedTile.col] = placedTile.tile;
-            tempGrid[placedTile.row][placedTile.col] = null;
         }
+        committed = committed.with(placedTiles);
     }
 
     /**
      * Clears the temporary grid of all tiles.
      */
     public void clearTempGrid() {
+        for (int row = 0; row < SIZE; row++) {
+            for (int cols = tempRowMasks[row] & FULL_LINE; cols != 0; cols &= cols - 1) {
+                tempGrid[row][Integer.numberOfTrailingZeros(cols)] = null;
+            }
+            tempRowMasks[row] = 0;
+            tempColMasks[row] = 0;
+        }
+        tempHash = 0;
+    }
+
+    /**
+     * Rebuilds the snapshot and masks of a board read from a stream, since they aren't saved with it.
+     * @param in The stream the board is read from.
+     * @throws IOException If the board can't be read.
+     * @throws ClassNotFoundException If a class of the board can't be found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        tempRowMasks = new short[SIZE];
+        tempColMasks = new short[SIZE];
+        List<PlacedTile> tiles = new ArrayList<>();
         for (int row = 0; row < SIZE; row++) {
             for (int col = 0; col < SIZE; col++) {
-                tempGrid[row][col] = null;
+                if (grid[row][col] != null) {
+                    tiles.add(new PlacedTile(row, col, grid[row][col]));
+                }
+                if (tempGrid[row][col] != null) {
+                    tempRowMasks[row] |= (short) (1 << col);
+                    tempColMasks[col] |= (short) (1 << row);
+                    tempHash ^= Zobrist.tempSquare(row, col, tempGrid[row][col]);
+                }
             }
         }
+        committed = new BoardSnapshot(premiums, null).with(tiles);
     }
 
     /**
@@ -184,6 +329,50 @@ public class Board implements Serializable {
         return anchors;
     }
 
+    /**
+     * Find all anchors on a line of the committed board: the empty squares next to a placed tile in any
+     * direction, which every new play has to cover at least one of. Unlike the pattern version, squares
+     * only touching tiles on the neighbouring lines count too, so parallel plays can be found. When the
+     * board is empty the centre square is the only anchor.
+     * @param lineIndex The index of the row (horizontal) or column (vertical).
+     * @param horizontal Whether the line is a row or not.
+     * @return A list of the positions along the line which are anchors (if any).
+     */
+    public List<Integer> findAnchors(int lineIndex, boolean horizontal) {
+        return committed.findAnchors(lineIndex, horizontal);
+    }
+
+    /**
+     * Sets the dictionary used for the cross-checks of this board.
+     * @param dictionary The dictionary of accepted words.
+     */
+    public void setDictionary(Dictionary dictionary) {
+        committed = committed.withDictionary(dictionary);
+    }
+
+    /**
+     * Returns the letters which can be placed on an empty square without making an invalid perpendicular word.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether the play is along the row (so the perpendicular word is down the column) or not.
+     * @return A mask with bit i set if letter i ('a' is 0) can be placed, or 0 if the square is occupied.
+     */
+    public int getCrossCheck(int row, int col, boolean horizontal) {
+        return committed.getCrossCheck(row, col, horizontal);
+    }
+
+    /**
+     * Returns the total tile score (without premiums) of the perpendicular word that a tile placed on an empty
+     * square would join.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether the play is along the row (so the perpendicular word is down the column) or not.
+     * @return The score of the tiles already in the perpendicular word, or -1 if no word would be formed.
+     */
+    public int getCrossScore(int row, int col, boolean horizontal) {
+        return committed.getCrossScore(row, col, horizontal);
+    }
+
     /**
      * Sets the premium tiles on the scrabble game board.
      * @param row The row of the premium tile to be set
@@ -191,7 +380,27 @@ public class Board implements Serializable {
      * @param type The type of premium tile
      */
     public void setPremium(int row, int col, Premium type) {
-        premiums[row][col] = type;
+        Premium[][] layout = new Premium[SIZE][];
+        for (int r = 0; r < SIZE; r++) {
+            layout[r] = premiums[r].clone();
+        }
+        layout[row][col] = type;
+        premiums = layout;
+        committed = committed.withPremiums(layout);
+    }
+
+    /**
+     * Sets every premium square of the board at once, such as to a layout read by BoardLoader.
+     * @param layout The premium type of each square, by row then column. It is copied, so it can be
+     *               used for other boards.
+     */
+    public void setLayout(Premium[][] layout) {
+        Premium[][] copy = new Premium[SIZE][];
+        for (int r = 0; r < SIZE; r++) {
+            copy[r] = layout[r].clone();
+        }
+        premiums = copy;
+        committed = committed.withPremiums(copy);
     }
 
     /**
@@ -208,7 +417,8 @@ public class Board implements Serializable {
      * Initializes the default scrabble game board.
      */
     public void setDefaultBoard() {
-        // setting the default gameboard
+        // setting the default gameboard, on a new layout as the snapshots share the old one
+        Premium[][] premiums = new Premium[SIZE][SIZE];
         for (int i = 0; i < Board.SIZE; i++) {
             for (int j = 0; j < Board.SIZE; j++) {
                 premiums[i][j] = Premium.NORMAL;
@@ -247,5 +457,7 @@ public class Board implements Serializable {
                 }
             }
         }
+        this.premiums = premiums;
+        committed = committed.withPremiums(premiums);
     }
 }
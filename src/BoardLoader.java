@@ -21,11 +21,30 @@ public class BoardLoader {
     }
 
     /**
-     * Imports an XML file into usable data for the scrabble game.
+     * Imports an XML file into usable data for the scrabble game. Squares the file doesn't list are normal.
      * @param board The GameBoard which will be used for the game.
      * @param fileName The name of the file to be loaded containing the XML data.
      */
     public static void importBoardXML(Board board, String fileName) {
+        Board.Premium[][] layout = readLayout(fileName);
+        if (layout == null) {
+            board.setDefaultBoard();
+        } else {
+            board.setLayout(layout);
+        }
+    }
+
+    /**
+     * Reads the premium squares of an XML board file without touching a board, so layouts can be read
+     * ahead of time on another thread.
+     * @param fileName The name of the file to be loaded containing the XML data.
+     * @return The premium type of each square, by row then column, or null if the file couldn't be read.
+     */
+    public static Board.Premium[][] readLayout(String fileName) {
+        Board.Premium[][] layout = new Board.Premium[Board.SIZE][Board.SIZE];
+        for (Board.Premium[] row : layout) {
+            java.util.Arrays.fill(row, Board.Premium.NORMAL);
+        }
         try {
             SAXParserFactory factory = SAXParserFactory.newInstance();
             SAXParser parser = factory.newSAXParser();
@@ -67,17 +86,17 @@ public class BoardLoader {
                 @Override
                 public void endElement(String uri, String localName, String qName) throws SAXException {
                     if (qName.equals("Cell")) {
-                        board.setPremium(row[0], col[0], type[0]);
+                        layout[row[0]][col[0]] = type[0];
                     }
                     current[0] = "";
                 }
             };
             parser.parse(new File(fileName), handler);
+            return layout;
         } catch (Exception e) {
             e.printStackTrace();
             System.err.println("Error importing Board XML");
-            board.setDefaultBoard();
+            return null;
         }
-
     }
 }
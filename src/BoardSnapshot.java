@@ -0,0 +1,496 @@
+import java.util.*;
+import java.util.List;
+
+/**
+ * A BoardSnapshot is an unchangeable view of the tiles committed to a Board, so the AI's search, word
+ * checks and scoring can read a board from any number of threads while the game carries on.
+ *
+ * A snapshot with more tiles is made with {@link #with}, which only copies the rows those tiles are on:
+ * every other row, and the premium squares, are shared with the snapshot it was made from. This is also
+ * how a Board keeps its own tiles, so taking a snapshot of a Board costs nothing.
+ *
+ * As with Board, each row and column has an occupancy mask, and the cross-checks used by the
+ * MoveGenerator are worked out the first time they are needed, then kept up to date square by square
+ * in each snapshot made from this one.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public final class BoardSnapshot {
+    /** The size of the grid */
+    public static final int SIZE = Board.SIZE;
+    /** A line mask with a bit set for every square of a row or column. */
+    public static final int FULL_LINE = (1 << SIZE) - 1;
+
+    /** The tiles of each row. Rows are shared between snapshots and never changed. */
+    private final Tile[][] rows;
+    /** The letter index + 1 of each tile, row by row, or 0 for an empty square or a tile with no letter. */
+    private final byte[][] letters;
+    /** For each row, bit c is set if there is a tile in column c. */
+    private final short[] rowMasks;
+    /** For each column, bit r is set if there is a tile in row r. */
+    private final short[] colMasks;
+    /** The number of tiles on the board. */
+    private final int tileCount;
+    /** The XOR of the Zobrist keys of the tiles. */
+    private final long tileHash;
+    /** The premium squares, shared and never changed. */
+    private final Board.Premium[][] premiums;
+    /** The XOR of the Zobrist keys of the premium squares. */
+    private final long premiumHash;
+    /** The dictionary used for the cross-checks, or null for the game's accepted words. */
+    private final Dictionary dictionary;
+    /** The cross-checks, or null until first needed. */
+    private volatile CrossChecks crossChecks;
+
+    /**
+     * The letters allowed on each empty square and the score of the perpendicular word there, for one word
+     * graph. Index 0 is for plays along a row (checked against the column), index 1 is for plays along a
+     * column. Rows of the arrays are shared between snapshots in the same way as the tiles.
+     */
+    private record CrossChecks(Dawg dawg, int[][][] checks, int[][][] scores) { }
+
+    /**
+     * Constructs an empty snapshot.
+     * @param premiums The premium squares, which must not be changed afterwards.
+     * @param dictionary The dictionary used for the cross-checks, or null for the game's accepted words.
+     */
+    BoardSnapshot(Board.Premium[][] premiums, Dictionary dictionary) {
+        this(new Tile[SIZE][SIZE], new byte[SIZE][SIZE], new short[SIZE], new short[SIZE], 0, 0, premiums,
+                hashPremiums(premiums), dictionary, null);
+    }
+
+    private BoardSnapshot(Tile[][] rows, byte[][] letters, short[] rowMasks, short[] colMasks, int tileCount, long tileHash,
+                          Board.Premium[][] premiums, long premiumHash, Dictionary dictionary, CrossChecks crossChecks) {
+        this.rows = rows;
+        this.letters = letters;
+        this.rowMasks = rowMasks;
+        this.colMasks = colMasks;
+        this.tileCount = tileCount;
+        this.tileHash = tileHash;
+        this.premiums = premiums;
+        this.premiumHash = premiumHash;
+        this.dictionary = dictionary;
+        this.crossChecks = crossChecks;
+    }
+
+    /**
+     * Makes a snapshot with tiles added, such as a play being tried out. Only the rows the tiles are on are
+     * copied. A tile placed on an occupied square replaces the tile there.
+     * @param placedTiles The tiles to add.
+     * @return The new snapshot.
+     */
+    public BoardSnapshot with(List<PlacedTile> placedTiles) {
+        if (placedTiles.isEmpty()) {
+            return this;
+        }
+        Tile[][] newRows = rows.clone();
+        byte[][] newLetters = letters.clone();
+        short[] newRowMasks = rowMasks.clone();
+        short[] newColMasks = colMasks.clone();
+        int count = tileCount;
+        long hash = tileHash;
+        int copied = 0; //the rows already copied
+        for (PlacedTile pt : placedTiles) {
+            if ((copied & (1 << pt.row)) == 0) {
+                newRows[pt.row] = newRows[pt.row].clone();
+                newLetters[pt.row] = newLetters[pt.row].clone();
+                copied |= 1 << pt.row;
+            }
+            if (newRows[pt.row][pt.col] != null) {
+                count--;
+                hash ^= Zobrist.square(pt.row, pt.col, newRows[pt.row][pt.col]);
+            }
+            newRows[pt.row][pt.col] = pt.tile;
+            if (pt.tile == null) {
+                newRowMasks[pt.row] &= (short) ~(1 << pt.col);
+                newColMasks[pt.col] &= (short) ~(1 << pt.row);
+                newLetters[pt.row][pt.col] = 0;
+            } else {
+                count++;
+                hash ^= Zobrist.square(pt.row, pt.col, pt.tile);
+                newRowMasks[pt.row] |= (short) (1 << pt.col);
+                newColMasks[pt.col] |= (short) (1 << pt.row);
+                newLetters[pt.row][pt.col] = (byte) (letterIndex(pt.tile) + 1);
+            }
+        }
+        BoardSnapshot next = new BoardSnapshot(newRows, newLetters, newRowMasks, newColMasks, count, hash, premiums,
+                premiumHash, dictionary, null);
+        CrossChecks current = crossChecks;
+        if (current != null && current.dawg == next.getDictionary().getDawg()) {
+            next.crossChecks = next.updateCrossChecks(current, placedTiles);
+        }
+        return next;
+    }
+
+    /**
+     * Makes a snapshot with the same tiles on a different layout of premium squares.
+     * @param premiums The premium squares, which must not be changed afterwards.
+     * @return The new snapshot.
+     */
+    BoardSnapshot withPremiums(Board.Premium[][] premiums) {
+        return new BoardSnapshot(rows, letters, rowMasks, colMasks, tileCount, tileHash, premiums, hashPremiums(premiums),
+                dictionary, crossChecks);
+    }
+
+    /**
+     * Makes a snapshot with the same tiles, whose cross-checks use a different dictionary.
+     * @param dictionary The dictionary, or null for the game's accepted words.
+     * @return The new snapshot.
+     */
+    BoardSnapshot withDictionary(Dictionary dictionary) {
+        return new BoardSnapshot(rows, letters, rowMasks, colMasks, tileCount, tileHash, premiums, premiumHash,
+                dictionary, crossChecks);
+    }
+
+    /**
+     * Returns the Zobrist hash of the snapshot: its tiles and its layout of premium squares. Snapshots with the
+     * same tiles on the same layout have the same hash, however they were reached.
+     * @return The hash.
+     */
+    public long getHash() {
+        return tileHash ^ premiumHash;
+    }
+
+    /**
+     * Hashes a layout of premium squares.
+     * @param premiums The premium squares.
+     * @return The XOR of the keys of the squares.
+     */
+    private static long hashPremiums(Board.Premium[][] premiums) {
+        long hash = 0;
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                hash ^= Zobrist.premium(row, col, premiums[row][col]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the tile on a square.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @return The tile, or null if the square is empty.
+     */
+    public Tile getTile(int row, int col) {
+        return rows[row][col];
+    }
+
+    /**
+     * Determines whether the board is empty.
+     * @return True if there are no tiles on the board.
+     */
+    public boolean isEmpty() {
+        return tileCount == 0;
+    }
+
+    /**
+     * Returns the number of tiles on the board.
+     * @return The tile count.
+     */
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    /**
+     * Returns which squares of a line hold a tile.
+     * @param lineIndex The index of the row (horizontal) or column (vertical).
+     * @param horizontal Whether the line is a row or not.
+     * @return A mask with bit i set if square i along the line holds a tile.
+     */
+    public int getLineMask(int lineIndex, boolean horizontal) {
+        return (horizontal ? rowMasks[lineIndex] : colMasks[lineIndex]) & FULL_LINE;
+    }
+
+    /**
+     * Returns the letter of the tile on a square.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @return The index from 0 ('a') to 25 ('z'), or Dawg.NONE if the square is empty or its tile has no letter.
+     */
+    public int getLetterIndex(int row, int col) {
+        return letters[row][col] - 1;
+    }
+
+    /**
+     * Return the type of premium tile at a specified location
+     * @param row The row of the square
+     * @param col The column of the square
+     * @return The premium type of the square
+     */
+    public Board.Premium getPremium(int row, int col) {
+        return premiums[row][col];
+    }
+
+    /**
+     * Determines whether a square is next to a tile, in any direction.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @return True if a neighbouring square holds a tile.
+     */
+    public boolean touchesTile(int row, int col) {
+        int along = rowMasks[row] & ((1 << col >> 1) | (2 << col));
+        int above = row > 0 ? colMasks[col] & (1 << (row - 1)) : 0;
+        int below = colMasks[col] & (2 << row) & FULL_LINE;
+        return (along | above | below) != 0;
+    }
+
+    /**
+     * Finds the first square of the run of tiles which a square is part of, or would join if a tile were
+     * placed there.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether to look along the row or down the column.
+     * @return The column (horizontal) or row (vertical) the run starts at.
+     */
+    public int wordStart(int row, int col, boolean horizontal) {
+        return horizontal ? runStart(rowMasks[row], col) : runStart(colMasks[col], row);
+    }
+
+    /**
+     * Finds the last square of the run of tiles which a square is part of, or would join if a tile were
+     * placed there.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether to look along the row or down the column.
+     * @return The column (horizontal) or row (vertical) the run ends at.
+     */
+    public int wordEnd(int row, int col, boolean horizontal) {
+        return horizontal ? runEnd(rowMasks[row], col) : runEnd(colMasks[col], row);
+    }
+
+    /**
+     * Find all anchors on a line: the empty squares next to a tile in any direction, which every new play
+     * has to cover at least one of. When the board is empty the centre square is the only anchor.
+     * @param lineIndex The index of the row (horizontal) or column (vertical).
+     * @param horizontal Whether the line is a row or not.
+     * @return A list of the positions along the line which are anchors (if any).
+     */
+    public List<Integer> findAnchors(int lineIndex, boolean horizontal) {
+        List<Integer> anchors = new ArrayList<>();
+        if (isEmpty()) {
+            if (lineIndex == SIZE / 2) {
+                anchors.add(SIZE / 2);
+            }
+            return anchors;
+        }
+        short[] masks = horizontal ? rowMasks : colMasks;
+        int line = masks[lineIndex] & FULL_LINE;
+        int touching = (line << 1) | (line >> 1); //next to a tile along the line
+        if (lineIndex > 0) {
+            touching |= masks[lineIndex - 1]; //next to a tile on the neighbouring lines
+        }
+        if (lineIndex < SIZE - 1) {
+            touching |= masks[lineIndex + 1];
+        }
+        for (int free = touching & ~line & FULL_LINE; free != 0; free &= free - 1) {
+            anchors.add(Integer.numberOfTrailingZeros(free)); //cannot place on existing tiles
+        }
+        return anchors;
+    }
+
+    /**
+     * Returns the letters which can be placed on an empty square without making an invalid perpendicular word.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether the play is along the row (so the perpendicular word is down the column) or not.
+     * @return A mask with bit i set if letter i ('a' is 0) can be placed, or 0 if the square is occupied.
+     */
+    public int getCrossCheck(int row, int col, boolean horizontal) {
+        return ensureCrossChecks().checks[horizontal ? 0 : 1][row][col];
+    }
+
+    /**
+     * Returns the total tile score (without premiums) of the perpendicular word that a tile placed on an empty
+     * square would join.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether the play is along the row (so the perpendicular word is down the column) or not.
+     * @return The score of the tiles already in the perpendicular word, or -1 if no word would be formed.
+     */
+    public int getCrossScore(int row, int col, boolean horizontal) {
+        return ensureCrossChecks().scores[horizontal ? 0 : 1][row][col];
+    }
+
+    /**
+     * Makes sure the cross-checks are computed for the current word graph, computing every square if they
+     * have never been computed or the word list has changed. Two threads may both compute them, which
+     * gives the same result.
+     * @return The cross-checks.
+     */
+    private CrossChecks ensureCrossChecks() {
+        Dawg dawg = getDictionary().getDawg();
+        CrossChecks current = crossChecks;
+        if (current == null || current.dawg != dawg) {
+            int[][][] checks = new int[2][SIZE][SIZE];
+            int[][][] scores = new int[2][SIZE][SIZE];
+            for (int row = 0; row < SIZE; row++) {
+                for (int col = 0; col < SIZE; col++) {
+                    computeCrossCheck(dawg, checks, scores, row, col, true);
+                    computeCrossCheck(dawg, checks, scores, row, col, false);
+                }
+            }
+            current = new CrossChecks(dawg, checks, scores);
+            crossChecks = current;
+        }
+        return current;
+    }
+
+    /**
+     * Works out the cross-checks of this snapshot from those of the snapshot it was made from, recomputing
+     * the squares affected by the new tiles: the squares themselves, and the empty squares at each end of
+     * the row and column words running through them. Only the rows recomputed are copied.
+     * @param previous The cross-checks of the snapshot this was made from.
+     * @param placedTiles The tiles which were added.
+     * @return The cross-checks.
+     */
+    private CrossChecks updateCrossChecks(CrossChecks previous, List<PlacedTile> placedTiles) {
+        int[][][] checks = {previous.checks[0].clone(), previous.checks[1].clone()};
+        int[][][] scores = {previous.scores[0].clone(), previous.scores[1].clone()};
+        int copied = 0; //the rows already copied
+        for (PlacedTile pt : placedTiles) {
+            int above = runStart(colMasks[pt.col], pt.row) - 1;
+            int below = runEnd(colMasks[pt.col], pt.row) + 1;
+            int left = runStart(rowMasks[pt.row], pt.col) - 1;
+            int right = runEnd(rowMasks[pt.row], pt.col) + 1;
+            copied = copyRow(checks, scores, pt.row, copied);
+            copied = copyRow(checks, scores, above, copied);
+            copied = copyRow(checks, scores, below, copied);
+
+            computeCrossCheck(previous.dawg, checks, scores, pt.row, pt.col, true);
+            computeCrossCheck(previous.dawg, checks, scores, pt.row, pt.col, false);
+            computeCrossCheck(previous.dawg, checks, scores, above, pt.col, true);
+            computeCrossCheck(previous.dawg, checks, scores, below, pt.col, true);
+            computeCrossCheck(previous.dawg, checks, scores, pt.row, left, false);
+            computeCrossCheck(previous.dawg, checks, scores, pt.row, right, false);
+        }
+        return new CrossChecks(previous.dawg, checks, scores);
+    }
+
+    /**
+     * Copies a row of the cross-checks, unless it is off the board or has already been copied.
+     * @param checks The cross-check masks.
+     * @param scores The cross-scores.
+     * @param row The row to copy.
+     * @param copied The rows already copied, one bit per row.
+     * @return The rows copied, including this one.
+     */
+    private static int copyRow(int[][][] checks, int[][][] scores, int row, int copied) {
+        if (row < 0 || row >= SIZE || (copied & (1 << row)) != 0) {
+            return copied;
+        }
+        for (int d = 0; d < 2; d++) {
+            checks[d][row] = checks[d][row].clone();
+            scores[d][row] = scores[d][row].clone();
+        }
+        return copied | 1 << row;
+    }
+
+    /**
+     * Works out which letters form a valid perpendicular word on a square, and the score of the tiles already
+     * in that word. Squares off the board are ignored.
+     * @param dawg The word graph of the accepted words.
+     * @param checks The cross-check masks to update.
+     * @param scores The cross-scores to update.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether the play is along the row (so the perpendicular word is down the column) or not.
+     */
+    private void computeCrossCheck(Dawg dawg, int[][][] checks, int[][][] scores, int row, int col, boolean horizontal) {
+        if (row < 0 || col < 0 || row >= SIZE || col >= SIZE) {
+            return;
+        }
+        int d = horizontal ? 0 : 1;
+        if (rows[row][col] != null) {
+            checks[d][row][col] = 0;
+            scores[d][row][col] = -1;
+            return;
+        }
+        int dr = horizontal ? 1 : 0;
+        int dc = horizontal ? 0 : 1;
+
+        int startRow = horizontal ? runStart(colMasks[col], row) : row;
+        int startCol = horizontal ? col : runStart(rowMasks[row], col);
+        int endRow = horizontal ? runEnd(colMasks[col], row) : row;
+        int endCol = horizontal ? col : runEnd(rowMasks[row], col);
+        if (startRow == endRow && startCol == endCol) {
+            checks[d][row][col] = Board.ALL_LETTERS;
+            scores[d][row][col] = -1;
+            return;
+        }
+
+        int score = 0;
+        int node = dawg.root();
+        for (int r = startRow, c = startCol; r != row || c != col; r += dr, c += dc) {
+            score += rows[r][c].getScore();
+            if (node != Dawg.NONE) {
+                node = dawg.child(node, getLetterIndex(r, c));
+            }
+        }
+        for (int r = row + dr, c = col + dc; r <= endRow && c <= endCol; r += dr, c += dc) {
+            score += rows[r][c].getScore();
+        }
+        scores[d][row][col] = score;
+
+        int mask = 0;
+        int options = node == Dawg.NONE ? 0 : dawg.letters(node);
+        while (options != 0) {
+            int letter = Integer.numberOfTrailingZeros(options);
+            options &= options - 1;
+            int next = dawg.child(node, letter);
+            for (int r = row + dr, c = col + dc; r <= endRow && c <= endCol && next != Dawg.NONE; r += dr, c += dc) {
+                next = dawg.child(next, getLetterIndex(r, c));
+            }
+            if (next != Dawg.NONE && dawg.isTerminal(next)) {
+                mask |= 1 << letter;
+            }
+        }
+        checks[d][row][col] = mask;
+    }
+
+    /**
+     * Finds the start of the run of set bits through a position of a line mask.
+     * @param line The line mask.
+     * @param pos The position along the line, which doesn't have to be set itself.
+     * @return The first position of the run, or pos if the bit before it is clear.
+     */
+    static int runStart(int line, int pos) {
+        int gaps = ~line & ((1 << pos) - 1);
+        return 32 - Integer.numberOfLeadingZeros(gaps); //one past the nearest gap before pos
+    }
+
+    /**
+     * Finds the end of the run of set bits through a position of a line mask.
+     * @param line The line mask.
+     * @param pos The position along the line, which doesn't have to be set itself.
+     * @return The last position of the run, or pos if the bit after it is clear.
+     */
+    static int runEnd(int line, int pos) {
+        int gaps = ~line & ~((2 << pos) - 1);
+        return Math.min(Integer.numberOfTrailingZeros(gaps), SIZE) - 1; //one before the nearest gap after pos
+    }
+
+    /**
+     * Returns the letter index of a placed tile.
+     * @param tile The tile.
+     * @return The index from 0 ('a') to 25 ('z'), or Dawg.NONE if the tile has no letter.
+     */
+    private static int letterIndex(Tile tile) {
+        String letter = tile.getLetter();
+        if (letter == null || letter.isEmpty()) {
+            return Dawg.NONE;
+        }
+        int index = Dawg.letterIndex(letter.charAt(0));
+        return index < 0 ? Dawg.NONE : index;
+    }
+
+    /**
+     * Returns the dictionary words on the board are checked with: the one the board was given, or else
+     * the default dictionary.
+     * @return The dictionary.
+     */
+    public Dictionary getDictionary() {
+        return dictionary != null ? dictionary : GameModel.defaultDictionary();
+    }
+}
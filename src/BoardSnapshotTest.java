@@ -0,0 +1,103 @@
+/**
+ * Test for the BoardSnapshot class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+class BoardSnapshotTest {
+
+    @Test
+    @DisplayName("Testing a snapshot doesn't change when the board does")
+    void unchanged() {
+        Board board = new Board();
+        board.commitTiles(TestFixtures.word("CAT", 7, 6, true));
+        BoardSnapshot before = board.snapshot();
+        board.commitTiles(TestFixtures.word("OX", 8, 7, false));
+        board.placeTempTile(7, 9, new Tile("S", 1));
+
+        org.junit.jupiter.api.Assertions.assertEquals(3, before.getTileCount());
+        org.junit.jupiter.api.Assertions.assertNull(before.getTile(9, 7));
+        org.junit.jupiter.api.Assertions.assertEquals(0b111 << 6, before.getLineMask(7, true));
+        org.junit.jupiter.api.Assertions.assertEquals(5, board.snapshot().getTileCount());
+        org.junit.jupiter.api.Assertions.assertNull(board.snapshot().getTile(7, 9));
+        org.junit.jupiter.api.Assertions.assertSame(board.snapshot(), board.snapshot());
+    }
+
+    @Test
+    @DisplayName("Testing a speculative play leaves the snapshot it was made from alone")
+    void speculative() {
+        Board board = new Board();
+        board.commitTiles(TestFixtures.word("CAT", 7, 6, true));
+        BoardSnapshot snapshot = board.snapshot();
+        BoardSnapshot play = snapshot.with(TestFixtures.word("S", 7, 9, true));
+
+        org.junit.jupiter.api.Assertions.assertEquals(9, play.wordEnd(7, 6, true));
+        org.junit.jupiter.api.Assertions.assertEquals(8, snapshot.wordEnd(7, 6, true));
+        org.junit.jupiter.api.Assertions.assertEquals("S", play.getTile(7, 9).getLetter());
+        org.junit.jupiter.api.Assertions.assertNull(snapshot.getTile(7, 9));
+        org.junit.jupiter.api.Assertions.assertSame(snapshot.getTile(7, 6), play.getTile(7, 6));
+        org.junit.jupiter.api.Assertions.assertSame(snapshot, snapshot.with(new ArrayList<>()));
+    }
+
+    @Test
+    @DisplayName("Testing cross-checks carried over to a new snapshot match ones worked out from scratch")
+    void crossChecks() {
+        Dictionary dictionary = TestFixtures.words("cat", "cats", "at", "to", "ox", "ax", "ta", "tax");
+        Board board = new Board();
+        board.setDictionary(dictionary);
+        board.getCrossCheck(0, 0, true); //computed now, then updated on each commit
+        List<ArrayList<PlacedTile>> plays = List.of(TestFixtures.word("CAT", 7, 6, true), TestFixtures.word("OX", 8, 7, false),
+                TestFixtures.word("TA", 6, 8, false), TestFixtures.word("AX", 9, 6, true));
+        for (ArrayList<PlacedTile> play : plays) {
+            board.commitTiles(play);
+        }
+
+        Board fresh = new Board();
+        fresh.setDictionary(dictionary);
+        for (ArrayList<PlacedTile> play : plays) {
+            fresh.commitTiles(play);
+        }
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                for (boolean horizontal : new boolean[] {true, false}) {
+                    org.junit.jupiter.api.Assertions.assertEquals(fresh.getCrossCheck(row, col, horizontal), board.getCrossCheck(row, col, horizontal));
+                    org.junit.jupiter.api.Assertions.assertEquals(fresh.getCrossScore(row, col, horizontal), board.getCrossScore(row, col, horizontal));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Testing checking a play doesn't touch the board")
+    void validate() {
+        Dictionary previous = GameModel.acceptedWords;
+        GameModel.acceptedWords = TestFixtures.words("cat", "cats", "at");
+        try {
+            validatePlays();
+        } finally {
+            GameModel.acceptedWords = previous;
+        }
+    }
+
+    private void validatePlays() {
+        Board board = new Board();
+        board.commitTiles(TestFixtures.word("CAT", 7, 6, true));
+        BoardSnapshot snapshot = board.snapshot();
+        Player player = new Player("Test");
+
+        org.junit.jupiter.api.Assertions.assertTrue(player.isValidPlay(snapshot, TestFixtures.word("S", 7, 9, true)));
+        org.junit.jupiter.api.Assertions.assertFalse(player.isValidPlay(snapshot, TestFixtures.word("S", 7, 10, true)));
+        org.junit.jupiter.api.Assertions.assertFalse(player.isValidPlay(snapshot, TestFixtures.word("S", 7, 8, true)));
+        org.junit.jupiter.api.Assertions.assertSame(snapshot, board.snapshot());
+        org.junit.jupiter.api.Assertions.assertNull(board.getTile(7, 9));
+
+        org.junit.jupiter.api.Assertions.assertTrue(player.playWord(board, TestFixtures.word("S", 7, 9, true)));
+        org.junit.jupiter.api.Assertions.assertEquals("S", board.getPermTile(7, 9).getLetter());
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Test for the Board class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+class BoardTest {
+
+    /**
+     * Commits a word to a board, one tile per letter.
+     */
+    private void commitWord(Board board, String word, int row, int col, boolean horizontal) {
+        ArrayList<PlacedTile> tiles = new ArrayList<>();
+        for (int i = 0; i < word.length(); i++) {
+            Tile tile = new Tile(String.valueOf(word.charAt(i)), 1);
+            tiles.add(new PlacedTile(horizontal ? row : row + i, horizontal ? col + i : col, tile));
+        }
+        board.commitTiles(tiles);
+    }
+
+    /**
+     * Finds the anchors of a line by looking at every neighbouring square.
+     */
+    private List<Integer> slowAnchors(Board board, int lineIndex, boolean horizontal) {
+        List<Integer> anchors = new ArrayList<>();
+        for (int i = 0; i < Board.SIZE; i++) {
+            int row = horizontal ? lineIndex : i;
+            int col = horizontal ? i : lineIndex;
+            if (board.getPermTile(row, col) == null
+                    && ((row > 0 && board.getPermTile(row - 1, col) != null) || (row < Board.SIZE - 1 && board.getPermTile(row + 1, col) != null)
+                    || (col > 0 && board.getPermTile(row, col - 1) != null) || (col < Board.SIZE - 1 && board.getPermTile(row, col + 1) != null))) {
+                anchors.add(i);
+            }
+        }
+        return anchors;
+    }
+
+    @Test
+    @DisplayName("Testing the masks follow the tiles committed to the board")
+    void masks() {
+        Board board = new Board();
+        org.junit.jupiter.api.Assertions.assertTrue(board.isEmpty());
+        org.junit.jupiter.api.Assertions.assertEquals(List.of(7), board.findAnchors(7, true));
+        commitWord(board, "CAT", 7, 6, true);
+        commitWord(board, "OW", 8, 7, false);
+        commitWord(board, "TE", 0, 13, true);
+        org.junit.jupiter.api.Assertions.assertFalse(board.isEmpty());
+        org.junit.jupiter.api.Assertions.assertEquals(7, board.getTileCount());
+        org.junit.jupiter.api.Assertions.assertEquals(0b111 << 6, board.getLineMask(7, true));
+        org.junit.jupiter.api.Assertions.assertEquals(0b111 << 7, board.getLineMask(7, false));
+        org.junit.jupiter.api.Assertions.assertEquals('w' - 'a', board.getLetterIndex(9, 7));
+        org.junit.jupiter.api.Assertions.assertEquals(Dawg.NONE, board.getLetterIndex(9, 8));
+        for (int line = 0; line < Board.SIZE; line++) {
+            org.junit.jupiter.api.Assertions.assertEquals(slowAnchors(board, line, true), board.findAnchors(line, true));
+            org.junit.jupiter.api.Assertions.assertEquals(slowAnchors(board, line, false), board.findAnchors(line, false));
+        }
+        org.junit.jupiter.api.Assertions.assertTrue(board.touchesTile(10, 7));
+        org.junit.jupiter.api.Assertions.assertTrue(board.touchesTile(1, 14));
+        org.junit.jupiter.api.Assertions.assertFalse(board.touchesTile(10, 8));
+    }
+
+    @Test
+    @DisplayName("Testing word extents include temporary tiles")
+    void extents() {
+        Board board = new Board();
+        commitWord(board, "CAT", 7, 6, true);
+        org.junit.jupiter.api.Assertions.assertEquals(6, board.wordStart(7, 7, true));
+        org.junit.jupiter.api.Assertions.assertEquals(8, board.wordEnd(7, 7, true));
+        org.junit.jupiter.api.Assertions.assertEquals(7, board.wordStart(7, 7, false));
+        org.junit.jupiter.api.Assertions.assertEquals(7, board.wordEnd(7, 7, false));
+        //an empty square reaches the tiles either side of it
+        org.junit.jupiter.api.Assertions.assertEquals(6, board.wordStart(7, 9, true));
+        board.placeTempTile(7, 9, new Tile("S", 1));
+        board.placeTempTile(7, 10, new Tile("S", 1));
+        org.junit.jupiter.api.Assertions.assertEquals(10, board.wordEnd(7, 6, true));
+        board.removeTempTile(7, 10);
+        org.junit.jupiter.api.Assertions.assertEquals(9, board.wordEnd(7, 6, true));
+        board.clearTempGrid();
+        org.junit.jupiter.api.Assertions.assertEquals(8, board.wordEnd(7, 6, true));
+        org.junit.jupiter.api.Assertions.assertNull(board.getTile(7, 9));
+        //lines run to the edges of the board
+        commitWord(board, "AX", 14, 13, true);
+        org.junit.jupiter.api.Assertions.assertEquals(0, board.wordEnd(14, 0, true));
+        org.junit.jupiter.api.Assertions.assertEquals(14, board.wordEnd(14, 13, true));
+        org.junit.jupiter.api.Assertions.assertEquals(13, board.wordStart(14, 14, true));
+    }
+
+    @Test
+    @DisplayName("Testing the masks are rebuilt when a board is deserialized")
+    void serialize() throws IOException, ClassNotFoundException {
+        Board board = new Board();
+        commitWord(board, "DOG", 3, 3, false);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(board);
+        }
+        Board loaded;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (Board) in.readObject();
+        }
+        org.junit.jupiter.api.Assertions.assertEquals(3, loaded.getTileCount());
+        org.junit.jupiter.api.Assertions.assertEquals(0b111 << 3, loaded.getLineMask(3, false));
+        org.junit.jupiter.api.Assertions.assertEquals('g' - 'a', loaded.getLetterIndex(5, 3));
+        org.junit.jupiter.api.Assertions.assertEquals(board.findAnchors(4, true), loaded.findAnchors(4, true));
+    }
+}
@@ -0,0 +1,477 @@
+import java.nio.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A Dawg (directed acyclic word graph) is a minimized letter trie of the accepted words, where
+ * identical suffixes are shared between words. The AI walks it one letter at a time, so it only
+ * ever follows letters that can still lead to a word, instead of scanning the whole word list.
+ *
+ * Nodes are numbered from 0 (the root). Each node stores a 26 bit mask of the letters it has an
+ * edge for, so following an edge is a mask test and a bit count rather than a search.
+ *
+ * Each node also records the lengths of the words which can be finished from it, so a search for words
+ * of a fixed length (see forEachMatch) never follows a branch which can't end at that length.
+ *
+ * The nodes are held in int buffers, which are either arrays built from a word list or views of a
+ * memory-mapped lexicon image written by LexiconCompiler, so a compiled graph is used without being
+ * read into the heap.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class Dawg {
+    /** Returned by child when a node has no edge for a letter. */
+    public static final int NONE = -1;
+    /** The number of letters in the alphabet. */
+    public static final int LETTERS = 26;
+
+    /** The bit of a node's mask set when a word ends at the node. */
+    private static final int TERMINAL = 1 << LETTERS;
+    /** The bits of a node's mask which hold its letters. */
+    private static final int LETTER_BITS = TERMINAL - 1;
+    /** The longest suffix length recorded exactly; longer suffixes all share this bit. */
+    private static final int LONG_SUFFIX = Integer.SIZE - 1;
+
+    /** The letters each node has an outgoing edge for, one bit per letter ('a' is bit 0), and TERMINAL if a word ends there. */
+    private final IntBuffer masks;
+    /** The index of each node's first edge in the targets buffer. */
+    private final IntBuffer firstEdge;
+    /** The node each edge leads to, grouped by node and ordered by letter. */
+    private final IntBuffer targets;
+    /** The lengths of the suffixes which finish a word from each node: bit i for length i, bit LONG_SUFFIX for any longer. */
+    private final IntBuffer suffixLengths;
+    /** The number of words in the graph. */
+    private final int wordCount;
+
+    /**
+     * Constructs a Dawg from its packed nodes.
+     */
+    private Dawg(IntBuffer masks, IntBuffer firstEdge, IntBuffer targets, IntBuffer suffixLengths, int wordCount) {
+        this.masks = masks;
+        this.firstEdge = firstEdge;
+        this.targets = targets;
+        this.suffixLengths = suffixLengths;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Reads a Dawg written by writeTo, without copying it: the graph is a view of the buffer.
+     * @param in The buffer, positioned at the graph. Its position is moved past the graph.
+     * @return The Dawg.
+     * @throws BufferUnderflowException If the buffer ends before the graph does.
+     * @throws IllegalArgumentException If the buffer doesn't hold a graph.
+     */
+    public static Dawg read(ByteBuffer in) {
+        int nodes = in.getInt();
+        int edges = in.getInt();
+        int words = in.getInt();
+        if (nodes < 1 || edges < 0 || words < 0) {
+            throw new IllegalArgumentException("Bad word graph of " + nodes + " nodes and " + edges + " edges");
+        }
+        IntBuffer masks = ints(in, nodes);
+        IntBuffer firstEdge = ints(in, nodes);
+        IntBuffer targets = ints(in, edges);
+        IntBuffer suffixLengths = ints(in, nodes);
+        return new Dawg(masks, firstEdge, targets, suffixLengths, words);
+    }
+
+    /**
+     * Takes a view of the next ints of a buffer.
+     * @param in The buffer, which is moved past the ints.
+     * @param count The number of ints.
+     * @return The view.
+     */
+    private static IntBuffer ints(ByteBuffer in, int count) {
+        if (count > in.remaining() / Integer.BYTES) {
+            throw new BufferUnderflowException();
+        }
+        IntBuffer view = in.slice().order(in.order()).asIntBuffer().limit(count);
+        in.position(in.position() + count * Integer.BYTES);
+        return view;
+    }
+
+    /**
+     * Returns the number of bytes writeTo writes.
+     * @return The size of the written graph.
+     */
+    public int byteSize() {
+        return Integer.BYTES * (3 + masks.limit() * 3 + targets.limit());
+    }
+
+    /**
+     * Writes the graph so it can be read back by read.
+     * @param out The buffer to write to, which must have byteSize bytes left.
+     */
+    public void writeTo(ByteBuffer out) {
+        out.putInt(masks.limit()).putInt(targets.limit()).putInt(wordCount);
+        for (IntBuffer ints : new IntBuffer[] {masks, firstEdge, targets, suffixLengths}) {
+            for (int i = 0; i < ints.limit(); i++) {
+                out.putInt(ints.get(i));
+            }
+        }
+    }
+
+    /**
+     * Builds a minimized Dawg from every word in a dictionary. Words containing anything other
+     * than the letters a-z are skipped, since they can't be made from tiles.
+     * @param dictionary The dictionary to build from.
+     * @return The built Dawg.
+     */
+    public static Dawg build(Dictionary dictionary) {
+        String[] words = new String[dictionary.size()];
+        int n = 0;
+        for (int i = 0; i < dictionary.size(); i++) {
+            String word = dictionary.getWord(i);
+            if (isLetters(word)) {
+                words[n++] = word;
+            }
+        }
+        Arrays.sort(words, 0, n);
+        return new Builder().build(words, n);
+    }
+
+    /**
+     * Returns the root node, which every word starts from.
+     * @return The root node.
+     */
+    public int root() {
+        return 0;
+    }
+
+    /**
+     * Follows the edge for a letter out of a node.
+     * @param node The node to start from.
+     * @param letter The letter, from 0 ('a') to 25 ('z').
+     * @return The node reached, or NONE if no word continues with that letter.
+     */
+    public int child(int node, int letter) {
+        int mask = masks.get(node);
+        int bit = 1 << letter;
+        if ((mask & bit) == 0) {
+            return NONE;
+        }
+        return targets.get(firstEdge.get(node) + Integer.bitCount(mask & (bit - 1)));
+    }
+
+    /**
+     * Returns the letters a node has outgoing edges for.
+     * @param node The node.
+     * @return A mask with bit i set if the node has an edge for letter i.
+     */
+    public int letters(int node) {
+        return masks.get(node) & LETTER_BITS;
+    }
+
+    /**
+     * Returns whether a word ends at a node.
+     * @param node The node.
+     * @return true if the letters leading to this node spell an accepted word.
+     */
+    public boolean isTerminal(int node) {
+        return (masks.get(node) & TERMINAL) != 0;
+    }
+
+    /**
+     * Checks if a word is in the graph, ignoring case.
+     * @param word The word to be checked.
+     * @return true if the word is in the graph.
+     */
+    public boolean contains(CharSequence word) {
+        int node = root();
+        for (int i = 0; i < word.length() && node != NONE; i++) {
+            int letter = letterIndex(word.charAt(i));
+            if (letter < 0) {
+                return false;
+            }
+            node = child(node, letter);
+        }
+        return node != NONE && isTerminal(node);
+    }
+
+    /**
+     * Returns the number of nodes in the graph.
+     * @return The node count.
+     */
+    public int nodeCount() {
+        return masks.limit();
+    }
+
+    /**
+     * Returns the number of words in the graph.
+     * @return The word count.
+     */
+    public int wordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Finds every word that can be spelled from a set of available letters, using each letter at most
+     * as many times as it is available. Only branches that the available letters can follow are walked.
+     * @param available The number of each letter available, indexed from 0 ('a') to 25 ('z'). It is
+     *                  restored to its original contents before this method returns.
+     * @param maxLength The longest word wanted.
+     * @param action Called once for each word found, in lowercase.
+     */
+    public void forEachWord(int[] available, int maxLength, Consumer<String> action) {
+        forEachWord(root(), available, new char[maxLength], 0, action);
+    }
+
+    /**
+     * Recursively walks the graph for forEachWord.
+     */
+    private void forEachWord(int node, int[] available, char[] prefix, int depth, Consumer<String> action) {
+        if (isTerminal(node) && depth > 0) {
+            action.accept(new String(prefix, 0, depth));
+        }
+        if (depth == prefix.length) {
+            return;
+        }
+        int mask = letters(node);
+        while (mask != 0) {
+            int letter = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            if (available[letter] > 0) {
+                available[letter]--;
+                prefix[depth] = (char) ('a' + letter);
+                forEachWord(child(node, letter), available, prefix, depth + 1, action);
+                available[letter]++;
+            }
+        }
+    }
+
+    /**
+     * Finds every word which fits a pattern, walking only the branches whose letters the pattern allows and
+     * which can still finish a word of the pattern's length.
+     * @param pattern The letters allowed in each position of the word.
+     * @param action Called once for each word found, in lowercase and alphabetical order.
+     */
+    public void forEachMatch(WordPattern pattern, Consumer<String> action) {
+        if (canFinish(root(), pattern.length())) {
+            forEachMatch(root(), pattern, new char[pattern.length()], 0, action);
+        }
+    }
+
+    /**
+     * Recursively walks the graph for forEachMatch. Only nodes which can finish a word of the pattern's
+     * length are visited, so every walk to the end of the pattern spells a word.
+     */
+    private void forEachMatch(int node, WordPattern pattern, char[] word, int depth, Consumer<String> action) {
+        if (depth == word.length) {
+            action.accept(new String(word));
+            return;
+        }
+        int remaining = word.length - depth - 1;
+        int mask = letters(node) & pattern.slot(depth);
+        while (mask != 0) {
+            int letter = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int next = child(node, letter);
+            if (canFinish(next, remaining)) {
+                word[depth] = (char) ('a' + letter);
+                forEachMatch(next, pattern, word, depth + 1, action);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a word can be finished from a node with a given number of letters. For lengths of
+     * LONG_SUFFIX or more this only says whether some suffix that long exists.
+     * @param node The node.
+     * @param length The number of letters still to come.
+     * @return false if no word is finished by exactly that many more letters.
+     */
+    public boolean canFinish(int node, int length) {
+        return (suffixLengths.get(node) & (1 << Math.min(length, LONG_SUFFIX))) != 0;
+    }
+
+    /**
+     * Converts a character to its letter index.
+     * @param c The character, in either case.
+     * @return The index from 0 ('a') to 25 ('z'), or -1 if it isn't a letter.
+     */
+    public static int letterIndex(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        return -1;
+    }
+
+    /**
+     * Checks that a word only contains the letters a-z (in either case).
+     * @param word The word to check.
+     * @return true if every character is a letter.
+     */
+    private static boolean isLetters(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (letterIndex(word.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a minimized graph from sorted words, minimizing as it goes (Daciuk et al. incremental
+     * construction), so the unminimized part is never longer than one word.
+     */
+    private static class Builder {
+        /** Nodes that have been minimized, keyed by their own structure. */
+        private final Map<BuildNode, BuildNode> register = new HashMap<>();
+        /** The path of nodes for the previous word, from the root. */
+        private final ArrayList<BuildNode> path = new ArrayList<>();
+        /** The letters of the previous word. */
+        private String previous = "";
+
+        /**
+         * Builds the packed graph.
+         * @param words The words, sorted and lowercase.
+         * @param n The number of words to use.
+         * @return The packed Dawg.
+         */
+        Dawg build(String[] words, int n) {
+            BuildNode root = new BuildNode();
+            path.add(root);
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                String word = words[i];
+                if (word.equals(previous)) {
+                    continue;
+                }
+                int common = 0;
+                while (common < word.length() && common < previous.length() && word.charAt(common) == previous.charAt(common)) {
+                    common++;
+                }
+                minimize(common);
+                for (int j = common; j < word.length(); j++) {
+                    BuildNode next = new BuildNode();
+                    path.getLast().children[word.charAt(j) - 'a'] = next;
+                    path.add(next);
+                }
+                path.getLast().terminal = true;
+                previous = word;
+                count++;
+            }
+            minimize(0);
+            return pack(root, count);
+        }
+
+        /**
+         * Replaces the nodes of the previous word below a depth with registered equivalents.
+         * @param depth The number of nodes from the root to keep unminimized.
+         */
+        private void minimize(int depth) {
+            for (int i = path.size() - 1; i > depth; i--) {
+                BuildNode node = path.remove(i);
+                BuildNode parent = path.get(i - 1);
+                int letter = previous.charAt(i - 1) - 'a';
+                BuildNode existing = register.get(node);
+                if (existing != null) {
+                    parent.children[letter] = existing;
+                } else {
+                    register.put(node, node);
+                }
+            }
+        }
+
+        /**
+         * Numbers the nodes breadth first from the root and packs them into arrays.
+         */
+        private Dawg pack(BuildNode root, int count) {
+            IdentityHashMap<BuildNode, Integer> ids = new IdentityHashMap<>();
+            ArrayList<BuildNode> order = new ArrayList<>();
+            ids.put(root, 0);
+            order.add(root);
+            int edges = 0;
+            for (int i = 0; i < order.size(); i++) {
+                for (BuildNode child : order.get(i).children) {
+                    if (child == null) {
+                        continue;
+                    }
+                    edges++;
+                    if (!ids.containsKey(child)) {
+                        ids.put(child, order.size());
+                        order.add(child);
+                    }
+                }
+            }
+
+            int[] masks = new int[order.size()];
+            int[] firstEdge = new int[order.size()];
+            int[] targets = new int[edges];
+            int[] suffixLengths = new int[order.size()];
+            int e = 0;
+            for (int i = 0; i < order.size(); i++) {
+                BuildNode node = order.get(i);
+                firstEdge[i] = e;
+                masks[i] = node.terminal ? TERMINAL : 0;
+                for (int letter = 0; letter < LETTERS; letter++) {
+                    if (node.children[letter] != null) {
+                        masks[i] |= 1 << letter;
+                        targets[e++] = ids.get(node.children[letter]);
+                    }
+                }
+            }
+            for (int i = 0; i < order.size(); i++) {
+                suffixLengths(i, masks, firstEdge, targets, suffixLengths);
+            }
+            return new Dawg(IntBuffer.wrap(masks), IntBuffer.wrap(firstEdge), IntBuffer.wrap(targets), IntBuffer.wrap(suffixLengths), count);
+        }
+
+        /**
+         * Works out the lengths of the suffixes which finish a word from a node, from those of its children.
+         * The recursion is no deeper than the longest word.
+         * @return The lengths, bit i for length i and LONG_SUFFIX for any longer.
+         */
+        private static int suffixLengths(int node, int[] masks, int[] firstEdge, int[] targets, int[] suffixLengths) {
+            if (suffixLengths[node] != 0) {
+                return suffixLengths[node]; //every node finishes some word, so 0 means not worked out yet
+            }
+            int lengths = (masks[node] & TERMINAL) != 0 ? 1 : 0;
+            int edges = Integer.bitCount(masks[node] & LETTER_BITS);
+            for (int e = firstEdge[node]; e < firstEdge[node] + edges; e++) {
+                int child = suffixLengths(targets[e], masks, firstEdge, targets, suffixLengths);
+                lengths |= child << 1 | (child >>> (LONG_SUFFIX - 1) != 0 ? 1 << LONG_SUFFIX : 0);
+            }
+            suffixLengths[node] = lengths;
+            return lengths;
+        }
+    }
+
+    /**
+     * A node of the graph while it is being built. Two nodes are equal when they end the same words
+     * and have the same (already minimized) children.
+     */
+    private static class BuildNode {
+        final BuildNode[] children = new BuildNode[LETTERS];
+        boolean terminal;
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof BuildNode other) || terminal != other.terminal) {
+                return false;
+            }
+            for (int i = 0; i < LETTERS; i++) {
+                if (children[i] != other.children[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = terminal ? 1 : 0;
+            for (BuildNode child : children) {
+                h = h * 31 + System.identityHashCode(child);
+            }
+            return h;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Test for the Dawg class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class DawgTest {
+
+    @Test
+    @DisplayName("Testing the graph contains exactly the dictionary words")
+    void contains() {
+        Dictionary d = new Dictionary();
+        d.addWord("cat");
+        d.addWord("cats");
+        d.addWord("bat");
+        d.addWord("bats");
+        Dawg dawg = d.getDawg();
+
+        org.junit.jupiter.api.Assertions.assertEquals(4, dawg.wordCount());
+        org.junit.jupiter.api.Assertions.assertTrue(dawg.contains("CAT"));
+        org.junit.jupiter.api.Assertions.assertTrue(dawg.contains("bats"));
+        org.junit.jupiter.api.Assertions.assertFalse(dawg.contains("ca"));
+        org.junit.jupiter.api.Assertions.assertFalse(dawg.contains("rat"));
+        //"cat" and "bat" share every node after the first letter
+        org.junit.jupiter.api.Assertions.assertEquals(5, dawg.nodeCount());
+    }
+
+    @Test
+    @DisplayName("Testing the graph is rebuilt after adding a word")
+    void rebuild() {
+        Dictionary d = new Dictionary();
+        d.addWord("cat");
+        org.junit.jupiter.api.Assertions.assertFalse(d.getDawg().contains("dog"));
+        d.addWord("dog");
+        org.junit.jupiter.api.Assertions.assertTrue(d.getDawg().contains("dog"));
+    }
+
+    @Test
+    @DisplayName("Testing words are only found from the available letters")
+    void forEachWord() {
+        Dictionary d = new Dictionary();
+        d.load("scrabble_acceptedwords.csv");
+        Dawg dawg = d.getDawg();
+        org.junit.jupiter.api.Assertions.assertEquals(d.size(), dawg.wordCount());
+
+        int[] available = new int[Dawg.LETTERS];
+        for (char c : "tesa".toCharArray()) {
+            available[c - 'a']++;
+        }
+        ArrayList<String> words = new ArrayList<>();
+        dawg.forEachWord(available, 7, words::add);
+
+        org.junit.jupiter.api.Assertions.assertTrue(words.contains("eat"));
+        org.junit.jupiter.api.Assertions.assertFalse(words.contains("test")); //only one t available
+        for (String word : words) {
+            org.junit.jupiter.api.Assertions.assertTrue(d.checkWord(word));
+        }
+        //the available counts are restored
+        org.junit.jupiter.api.Assertions.assertEquals(1, available['t' - 'a']);
+    }
+
+    @Test
+    @DisplayName("Testing exactly the words which fit a pattern are found, in order")
+    void forEachMatch() throws IOException {
+        Dictionary mapped = new Dictionary();
+        mapped.load("scrabble_acceptedwords.csv");
+        Dictionary built = new Dictionary();
+        built.readWords("scrabble_acceptedwords.csv");
+        for (String text : new String[] {"_A__E", "_", "__", "[st]_[^aeiou]_", "q[^u]__", "________", "zzz"}) {
+            WordPattern pattern = WordPattern.parse(text);
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < built.size(); i++) {
+                if (pattern.matches(built.getWord(i))) {
+                    expected.add(built.getWord(i).toLowerCase());
+                }
+            }
+            expected.sort(null);
+            org.junit.jupiter.api.Assertions.assertEquals(expected, built.findMatches(pattern), text);
+            org.junit.jupiter.api.Assertions.assertEquals(expected, mapped.findMatches(pattern), text);
+        }
+        org.junit.jupiter.api.Assertions.assertTrue(mapped.findMatches(WordPattern.parse("_A__E")).contains("table"));
+    }
+}
@@ -1,46 +1,260 @@
 import java.util.*;
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
 
 /**
  * A Dictionary models the accepted English words from a standard scrabble game. It loads
  * the accepted words from an external .csv file, allowing for updates to the accepted word list.
  *
+ * The first time a word list is loaded it is compiled by LexiconCompiler into an image kept next to it,
+ * and after that the image is mapped into memory instead of the list being parsed, so loading takes the
+ * same time however long the list is and the words aren't copied into the heap. Words added after loading
+ * an image are kept in a WordTable alongside it.
+ *
+ * A frozen Dictionary can't be changed, and can be shared between any number of games and threads; the
+ * LexiconRegistry hands out frozen dictionaries so each word list is only loaded once.
+ *
  * @author Taylor Brumwell
  * @author Cole Galway
  * @version 11/10/2025
  */
 public class Dictionary {
     /**
-     * A list of strings which are the accepted words for the game.
+     * A hash table of the accepted words for the game, giving constant time lookups. When an image is
+     * loaded, it only holds the words which aren't in the image.
+     */
+    WordTable acceptedWords;
+    /**
+     * The mapped image of the word list, or null if the words weren't loaded from one.
+     */
+    private Lexicon lexicon;
+    /**
+     * The word graph of the accepted words, built the first time it is needed.
+     */
+    private Dawg dawg;
+    /**
+     * The anagram index of the accepted words, built the first time it is needed.
+     */
+    private AnagramIndex anagrams;
+    /**
+     * Whether the words can no longer be changed.
+     */
+    private volatile boolean frozen;
+
+    /**
+     * A mapped lexicon image: the sorted words, their word graph and their anagram index.
+     * @param source The word list the image was compiled from.
+     * @param offsets The offset into the pool of each word, and of the end of the pool.
+     * @param pool The lowercase ASCII words, in sorted order.
+     * @param dawg The word graph of the words.
+     * @param anagrams The anagram index of the words.
      */
-    ArrayList<String> acceptedWords;
+    private record Lexicon(String source, IntBuffer offsets, ByteBuffer pool, Dawg dawg, AnagramIndex anagrams) {
+        /**
+         * Maps the image of a word list.
+         * @param file The word list.
+         * @return The image, or null if there is no image which is up to date with the word list.
+         */
+        static Lexicon map(String file) {
+            File source = new File(file);
+            File image = new File(LexiconCompiler.imageFile(file));
+            if (!source.isFile() || !image.isFile()) {
+                return null;
+            }
+            try (FileChannel channel = FileChannel.open(image.toPath(), StandardOpenOption.READ)) {
+                ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(LexiconCompiler.ORDER);
+                if (in.remaining() < LexiconCompiler.HEADER_SIZE || in.getInt() != LexiconCompiler.MAGIC
+                        || in.getInt() != LexiconCompiler.VERSION || in.getLong() != source.length()
+                        || in.getLong() != source.lastModified()) {
+                    return null; //compiled from a different word list, so it is compiled again
+                }
+                int words = in.getInt();
+                int poolSize = in.getInt();
+                if (words < 0 || poolSize < 0 || words >= in.remaining() / Integer.BYTES) {
+                    throw new IOException("Bad word count " + words);
+                }
+                IntBuffer offsets = in.slice().order(in.order()).asIntBuffer().limit(words + 1);
+                in.position(in.position() + (words + 1) * Integer.BYTES);
+                if (poolSize > in.remaining() || offsets.get(words) != poolSize) {
+                    throw new IOException("Bad word pool size " + poolSize);
+                }
+                ByteBuffer pool = in.slice().limit(poolSize);
+                in.position(in.position() + ((poolSize + 3) & ~3));
+                Dawg dawg = Dawg.read(in);
+                AnagramIndex anagrams = AnagramIndex.read(in, index -> word(offsets, pool, index));
+                return new Lexicon(file, offsets, pool, dawg, anagrams);
+            } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+                System.err.println("Ignoring the lexicon image of " + file + ": " + e);
+                return null;
+            }
+        }
+
+        /**
+         * Returns the number of words in the image.
+         * @return The word count.
+         */
+        int size() {
+            return offsets.limit() - 1;
+        }
+
+        /**
+         * Returns the word with the given number, in sorted order.
+         * @param index The number of the word.
+         * @return The word as a lowercase String.
+         */
+        String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+            }
+            return word(offsets, pool, index);
+        }
+
+        /**
+         * Reads a word of an image.
+         * @param offsets The offset into the pool of each word, and of the end of the pool.
+         * @param pool The words.
+         * @param index The number of the word.
+         * @return The word as a lowercase String.
+         */
+        static String word(IntBuffer offsets, ByteBuffer pool, int index) {
+            byte[] word = new byte[offsets.get(index + 1) - offsets.get(index)];
+            pool.get(offsets.get(index), word);
+            return new String(word, StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * Checks if a word is in the image, ignoring case. Words of only letters are looked up in the word
+         * graph, and any others are searched for in the sorted words.
+         * @param word The word to be checked.
+         * @return true if the word is in the image.
+         */
+        boolean contains(CharSequence word) {
+            for (int i = 0; i < word.length(); i++) {
+                if (Dawg.letterIndex(word.charAt(i)) < 0) {
+                    return search(word);
+                }
+            }
+            return dawg.contains(word);
+        }
+
+        /**
+         * Binary searches the sorted words for a word, ignoring case.
+         * @param word The word to find.
+         * @return true if the word is in the image.
+         */
+        private boolean search(CharSequence word) {
+            int low = 0;
+            int high = size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(mid, word);
+                if (cmp == 0) {
+                    return true;
+                } else if (cmp < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Compares a word of the image to a word, as Strings compare.
+         * @param index The number of the word of the image.
+         * @param word The word, which is lowercased as it is compared.
+         * @return Less than, equal to or greater than 0 as the word of the image sorts before, the same as or after word.
+         */
+        private int compare(int index, CharSequence word) {
+            int start = offsets.get(index);
+            int length = offsets.get(index + 1) - start;
+            for (int i = 0; i < length && i < word.length(); i++) {
+                char c = word.charAt(i);
+                int cmp = (pool.get(start + i) & 0xFF) - ((c >= 'A' && c <= 'Z') ? c + ('a' - 'A') : c);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return length - word.length();
+        }
+    }
 
     /**
      * Constructs a new Dictionary, taking no parameters.
      */
     public Dictionary() {
-        acceptedWords = new ArrayList<>();
+        acceptedWords = new WordTable();
 
     }
 
     /**
-     * Loads words from a csv file containing one word per line.
+     * Loads words from a csv file containing one word per line. An empty dictionary maps the word list's
+     * image if it has an up to date one, and otherwise reads the list and compiles its image for next time.
      * @param file Path to csv file containing accepted words
      */
     public void load(String file) {
+        checkNotFrozen();
+        if (lexicon != null && lexicon.source().equals(file)) {
+            return; //already loaded
+        }
+        boolean empty = size() == 0;
+        if (empty) {
+            lexicon = Lexicon.map(file);
+            if (lexicon != null) {
+                invalidateIndex();
+                return;
+            }
+        }
+        File source = new File(file);
+        long length = source.length();
+        long modified = source.lastModified();
+        try {
+            readWords(file);
+        } catch (IOException e) { //catch I/O exceptions and print an error message
+            e.printStackTrace();
+            return;
+        }
+        if (empty) {
+            try {
+                LexiconCompiler.write(this, length, modified, LexiconCompiler.imageFile(file));
+            } catch (IOException e) {
+                System.err.println("Could not compile the lexicon image of " + file + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Reads words from a csv file containing one word per line, without using its image.
+     * @param file Path to csv file containing accepted words
+     * @throws IOException If the file can't be read.
+     */
+    void readWords(String file) throws IOException {
+        checkNotFrozen();
         try (BufferedReader br = new BufferedReader(new FileReader(file))) { //opens file for reading based on input parameter with path to the desired file
             String word;
             while ((word = br.readLine()) != null) { //reads one line
                 word = word.trim(); //remove undesired trailing characters (spaces)
-                if (!word.isEmpty()) {
-                    acceptedWords.add(word.toLowerCase()); //add word to dictionary
+                if (!word.isEmpty() && (lexicon == null || !lexicon.contains(word))) {
+                    acceptedWords.add(word); //add word to dictionary (lowercased by the table)
                 }
             }
-        } catch (IOException e) { //catch I/O exceptions and print an error message
-            e.printStackTrace();
+        } finally {
+            invalidateIndex();
         }
     }
 
+    /**
+     * Returns whether the words were loaded from a mapped lexicon image.
+     * @return true if the dictionary maps an image.
+     */
+    boolean isMapped() {
+        return lexicon != null;
+    }
+
     /**
      * Checks if a word is an accepted word.
      * @param word The word to be checked
@@ -50,7 +264,10 @@ public class Dictionary {
         if (word == null) {
             return false;
         }
-        return acceptedWords.contains(word.toLowerCase());
+        if (lexicon != null && lexicon.contains(word)) {
+            return true;
+        }
+        return acceptedWords.contains(word); //table lookups ignore case, so no lowercase copy is needed
     }
 
     /**
@@ -58,7 +275,12 @@ public class Dictionary {
      * @param word A String containing the word to be added.
      */
     public void addWord(String word) {
-        acceptedWords.add(word.toLowerCase());
+        checkNotFrozen();
+        if (lexicon != null && lexicon.contains(word)) {
+            return;
+        }
+        acceptedWords.add(word);
+        invalidateIndex();
     }
 
     /**
@@ -66,15 +288,99 @@ public class Dictionary {
      * @return Dictionary size.
      */
     public int size() {
-        return acceptedWords.size();
+        return (lexicon == null ? 0 : lexicon.size()) + acceptedWords.size();
     }
 
     /**
-     * Finds the word at the give index
+     * Finds the word at the give index. The words of an image come first, in sorted order.
      * @param index The index of the desired word.
      * @return The desired word at the given index
      */
     public String getWord(int index) {
-        return acceptedWords.get(index);
+        int mapped = lexicon == null ? 0 : lexicon.size();
+        return index < mapped ? lexicon.get(index) : acceptedWords.get(index - mapped);
+    }
+
+    /**
+     * Finds the accepted words which fit a pattern, by walking the word graph one slot at a time. Only words
+     * of the letters a-z can match.
+     * @param pattern The letters allowed in each position of the word.
+     * @param action Called once for each matching word, in lowercase and alphabetical order.
+     */
+    public void forEachMatch(WordPattern pattern, Consumer<String> action) {
+        getDawg().forEachMatch(pattern, action);
+    }
+
+    /**
+     * Finds the accepted words which fit a pattern.
+     * @param pattern The letters allowed in each position of the word, e.g. WordPattern.parse("_A__E").
+     * @return The matching words, in lowercase and alphabetical order.
+     */
+    public List<String> findMatches(WordPattern pattern) {
+        List<String> matches = new ArrayList<>();
+        forEachMatch(pattern, matches::add);
+        return matches;
+    }
+
+    /**
+     * Returns the word graph of the accepted words, which the AI walks letter by letter to generate
+     * plays. It is built on first use and rebuilt after the word list changes; the graph of an image
+     * is used as it is, unless words have been added to it.
+     * @return The Dawg of the accepted words.
+     */
+    public synchronized Dawg getDawg() {
+        if (dawg == null) {
+            dawg = lexicon != null && acceptedWords.size() == 0 ? lexicon.dawg() : Dawg.build(this);
+        }
+        return dawg;
+    }
+
+    /**
+     * Returns the anagram index of the accepted words, which finds the words a rack can make. It is built on
+     * first use and rebuilt after the word list changes; the index of an image is used as it is, unless words
+     * have been added to it.
+     * @return The AnagramIndex of the accepted words.
+     */
+    public synchronized AnagramIndex getAnagramIndex() {
+        if (anagrams == null) {
+            anagrams = lexicon != null && acceptedWords.size() == 0 ? lexicon.anagrams() : AnagramIndex.build(this);
+        }
+        return anagrams;
+    }
+
+    /**
+     * Freezes the dictionary, so its words can no longer be changed and it can be shared between threads.
+     * The word graph and anagram index are built now, rather than by the first search which needs them.
+     */
+    public synchronized void freeze() {
+        getDawg();
+        getAnagramIndex();
+        frozen = true;
+    }
+
+    /**
+     * Returns whether the dictionary is frozen.
+     * @return true if the words can no longer be changed.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Checks that the words can still be changed.
+     * @throws UnsupportedOperationException If the dictionary is frozen.
+     */
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("The dictionary is frozen");
+        }
+    }
+
+    /**
+     * Discards the word graph so it is rebuilt with the current word list.
+     */
+    private synchronized void invalidateIndex() {
+        dawg = null;
+        anagrams = null;
     }
-}
\ No newline at end of file
+}
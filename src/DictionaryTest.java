@@ -22,4 +22,26 @@ class DictionaryTest {
         org.junit.jupiter.api.Assertions.assertFalse(d.checkWord("pizza"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName ("Testing addWord ignores case and duplicates")
+    void addWord() {
+        Dictionary d = new Dictionary();
+        d.addWord("Apple");
+        d.addWord("apple");
+        org.junit.jupiter.api.Assertions.assertEquals(1, d.size());
+        org.junit.jupiter.api.Assertions.assertEquals("apple", d.getWord(0));
+        org.junit.jupiter.api.Assertions.assertTrue(d.checkWord("APPLE"));
+        org.junit.jupiter.api.Assertions.assertFalse(d.checkWord("appl"));
+    }
+
+    @Test
+    @DisplayName ("Testing loading the accepted word list")
+    void load() {
+        Dictionary d = new Dictionary();
+        d.load("scrabble_acceptedwords.csv");
+        org.junit.jupiter.api.Assertions.assertTrue(d.size() > 0);
+        for (int i = 0; i < d.size(); i++) {
+            org.junit.jupiter.api.Assertions.assertTrue(d.checkWord(d.getWord(i)));
+        }
+    }
+}
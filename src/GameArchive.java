@@ -0,0 +1,293 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A GameArchive stores any number of games in one file, each encoded by GameCodec, with an index file
+ * giving where each game starts. Games are numbered from 0 in the order they are added, and can be
+ * read back by number, or scanned through in order as GameSummaries without building GameModels.
+ *
+ * The archive is read through memory mapping, in segments of up to SEGMENT_SIZE bytes (a single mapping
+ * can't be larger than 2GB). A game never straddles two segments: if it doesn't fit in what is left of
+ * a segment, the rest of the segment is left empty and the game starts the next one.
+ *
+ * Archive file: int magic, int version, int segment size, int unused, then for each game an int length
+ * followed by the encoded game. Index file: a long offset into the archive file for each game.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class GameArchive implements Closeable {
+    /** The first four bytes of an archive ("SCRA"). */
+    public static final int MAGIC = 0x53435241;
+    /** The version of the format written. */
+    public static final int VERSION = 1;
+    /** The size of the archive file's header. */
+    public static final int HEADER_SIZE = 16;
+    /** The size of each mapped segment of a new archive. */
+    public static final int SEGMENT_SIZE = 1 << 28;
+    /** Added to the archive's file name for the index file. */
+    public static final String INDEX_SUFFIX = ".idx";
+
+    /** The archive file. */
+    private final FileChannel data;
+    /** The index file. */
+    private final FileChannel index;
+    /** The size of the segments of this archive. */
+    private final int segmentSize;
+    /** The number of games in the archive. */
+    private long count;
+    /** Where the next game will be written in the archive file. */
+    private long end;
+    /** The mapped segments of the archive file; null until first read, or once the file has grown past them. */
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    /** The mapped index file, or null until first read. */
+    private MappedByteBuffer mappedIndex;
+
+    /**
+     * Opens an archive, creating it if it doesn't exist.
+     * @param fileName The archive file.
+     * @throws IOException If the archive can't be opened, or isn't an archive.
+     */
+    public GameArchive(String fileName) throws IOException {
+        this(fileName, SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens an archive, creating it with a given segment size if it doesn't exist. An existing archive
+     * keeps the segment size it was created with.
+     * @param fileName The archive file.
+     * @param segmentSize The size of each mapped segment of a new archive.
+     * @throws IOException If the archive can't be opened, or isn't an archive.
+     */
+    public GameArchive(String fileName, int segmentSize) throws IOException {
+        data = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = FileChannel.open(Paths.get(fileName + INDEX_SUFFIX), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (data.size() == 0) {
+                header.putInt(MAGIC).putInt(VERSION).putInt(segmentSize).putInt(0).flip();
+                data.write(header, 0);
+                index.truncate(0);
+                this.segmentSize = segmentSize;
+            } else {
+                data.read(header, 0);
+                header.flip();
+                if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                    throw new IOException("Not a game archive: " + fileName);
+                }
+                int version = header.getInt();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported archive version " + version);
+                }
+                this.segmentSize = header.getInt();
+            }
+            if (this.segmentSize < HEADER_SIZE * 2) {
+                throw new IOException("Bad segment size " + this.segmentSize);
+            }
+            recover();
+        } catch (IOException e) {
+            //the channels are closed here rather than by close(), which a subclass could override
+            for (FileChannel channel : new FileChannel[] {data, index}) {
+                try {
+                    channel.close();
+                } catch (IOException closing) {
+                    e.addSuppressed(closing);
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Finds where the archive ends from the index, dropping any game or index entry left half written.
+     */
+    private void recover() throws IOException {
+        count = index.size() / Long.BYTES;
+        end = HEADER_SIZE;
+        while (count > 0) {
+            ByteBuffer entry = ByteBuffer.allocate(Long.BYTES);
+            index.read(entry, (count - 1) * Long.BYTES);
+            long offset = entry.flip().getLong();
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            if (offset >= HEADER_SIZE && offset + Integer.BYTES <= data.size()) {
+                data.read(length, offset);
+                long last = offset + Integer.BYTES + length.flip().getInt();
+                if (last <= data.size()) {
+                    end = last;
+                    break;
+                }
+            }
+            count--; //the game was never completely written
+        }
+        index.truncate(count * Long.BYTES);
+        data.truncate(end);
+    }
+
+    /**
+     * Adds a game to the end of the archive.
+     * @param model The game to add.
+     * @return The id of the game.
+     * @throws IOException If the game can't be written.
+     */
+    public long append(GameModel model) throws IOException {
+        return append(GameCodec.encode(model));
+    }
+
+    /**
+     * Adds an encoded game to the end of the archive.
+     * @param game The game, encoded by GameCodec.
+     * @return The id of the game.
+     * @throws IOException If the game can't be written.
+     */
+    public synchronized long append(byte[] game) throws IOException {
+        long size = Integer.BYTES + (long) game.length;
+        if (size > segmentSize) {
+            throw new IOException("Game of " + game.length + " bytes is larger than a segment");
+        }
+        long offset = end;
+        if (offset / segmentSize != (offset + size - 1) / segmentSize) {
+            offset = (offset / segmentSize + 1) * segmentSize; //start the next segment, so the game isn't split
+        }
+        ByteBuffer record = ByteBuffer.allocate((int) size);
+        record.putInt(game.length).put(game).flip();
+        while (record.hasRemaining()) {
+            data.write(record, offset + record.position());
+        }
+        ByteBuffer entry = ByteBuffer.allocate(Long.BYTES).putLong(offset).flip();
+        while (entry.hasRemaining()) {
+            index.write(entry, count * Long.BYTES + entry.position());
+        }
+        end = offset + size;
+        return count++;
+    }
+
+    /**
+     * Returns the number of games in the archive.
+     * @return The game count.
+     */
+    public synchronized long size() {
+        return count;
+    }
+
+    /**
+     * Reads a game from the archive, like GameModel.loadGame reads a saved game.
+     * @param id The id of the game.
+     * @return The game, or null if it couldn't be read.
+     */
+    public GameModel loadGame(long id) {
+        try {
+            return GameCodec.decode(read(id));
+        } catch (Exception e) {
+            System.err.println("Error loading game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads the encoded bytes of a game.
+     * @param id The id of the game.
+     * @return The game, encoded by GameCodec.
+     * @throws IOException If the archive can't be read.
+     */
+    public byte[] read(long id) throws IOException {
+        ByteBuffer game = slice(id);
+        byte[] bytes = new byte[game.remaining()];
+        game.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads the summary of a game, without building it.
+     * @param id The id of the game.
+     * @return The summary of the game.
+     * @throws IOException If the archive can't be read.
+     */
+    public GameSummary summary(long id) throws IOException {
+        return GameCodec.summarize(id, slice(id));
+    }
+
+    /**
+     * Scans through every game in the archive in order, reading each one's summary straight from the mapped file.
+     * @param action Called with the summary of each game.
+     * @throws IOException If the archive can't be read.
+     */
+    public void forEachSummary(Consumer<GameSummary> action) throws IOException {
+        long games = size();
+        for (long id = 0; id < games; id++) {
+            action.accept(summary(id));
+        }
+    }
+
+    /**
+     * Makes sure everything added to the archive is on disk.
+     * @throws IOException If the files can't be forced to disk.
+     */
+    public void flush() throws IOException {
+        data.force(false);
+        index.force(false);
+    }
+
+    /**
+     * Closes the archive's files.
+     * @throws IOException If the files can't be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        segments = new MappedByteBuffer[0];
+        mappedIndex = null;
+        try {
+            data.close();
+        } finally {
+            index.close();
+        }
+    }
+
+    /**
+     * Returns a buffer over a game's encoded bytes in the mapped file.
+     * @param id The id of the game.
+     */
+    private synchronized ByteBuffer slice(long id) throws IOException {
+        if (id < 0 || id >= count) {
+            throw new IOException("No game " + id + " in an archive of " + count);
+        }
+        if (mappedIndex == null || mappedIndex.capacity() < (id + 1) * Long.BYTES) {
+            mappedIndex = index.map(FileChannel.MapMode.READ_ONLY, 0, count * Long.BYTES);
+        }
+        long offset = mappedIndex.getLong((int) (id * Long.BYTES));
+        int segment = (int) (offset / segmentSize);
+        int position = (int) (offset % segmentSize);
+        MappedByteBuffer buffer = segment(segment, position + Integer.BYTES);
+        int length = buffer.getInt(position);
+        if (length < 0 || position + Integer.BYTES + length > segmentSize) {
+            throw new IOException("Bad length for game " + id);
+        }
+        buffer = segment(segment, position + Integer.BYTES + length);
+        return buffer.slice(position + Integer.BYTES, length);
+    }
+
+    /**
+     * Returns a mapped segment of the archive file, mapping it again if it doesn't reach far enough.
+     * @param segment The number of the segment.
+     * @param needed How many bytes from the start of the segment must be mapped.
+     */
+    private MappedByteBuffer segment(int segment, int needed) throws IOException {
+        if (segment >= segments.length) {
+            segments = Arrays.copyOf(segments, segment + 1);
+        }
+        MappedByteBuffer buffer = segments[segment];
+        if (buffer == null || buffer.capacity() < needed) {
+            long start = (long) segment * segmentSize;
+            long length = Math.min(segmentSize, end - start);
+            if (length < needed) {
+                throw new IOException("Game goes past the end of the archive");
+            }
+            buffer = data.map(FileChannel.MapMode.READ_ONLY, start, length);
+            segments[segment] = buffer;
+        }
+        return buffer;
+    }
+}
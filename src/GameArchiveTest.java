@@ -0,0 +1,132 @@
+/**
+ * Test for the GameArchive class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+class GameArchiveTest {
+
+    /**
+     * Makes a game between two AI players, a few turns in.
+     */
+    private GameModel newGame(long seed, int turns) {
+        HeadlessGame game = new HeadlessGame();
+        game.addAIPlayer("AI1").setParallelism(1);
+        game.addAIPlayer("AI2").setParallelism(1);
+        game.setSeed(seed);
+        game.play(turns);
+        return game.getModel();
+    }
+
+    private File tempArchive() throws IOException {
+        File file = File.createTempFile("archive", ".dat");
+        file.deleteOnExit();
+        new File(file.getPath() + GameArchive.INDEX_SUFFIX).deleteOnExit();
+        file.delete();
+        return file;
+    }
+
+    @Test
+    @DisplayName("Testing games are read back by id")
+    void randomAccess() throws IOException {
+        File file = tempArchive();
+        List<byte[]> games = new ArrayList<>();
+        try (GameArchive archive = new GameArchive(file.getPath())) {
+            for (int i = 0; i < 4; i++) {
+                byte[] game = GameCodec.encode(newGame(i, i * 2));
+                games.add(game);
+                org.junit.jupiter.api.Assertions.assertEquals(i, archive.append(game));
+            }
+            org.junit.jupiter.api.Assertions.assertEquals(4, archive.size());
+            for (int i = 3; i >= 0; i--) {
+                org.junit.jupiter.api.Assertions.assertArrayEquals(games.get(i), archive.read(i));
+            }
+            GameModel loaded = archive.loadGame(2);
+            org.junit.jupiter.api.Assertions.assertArrayEquals(games.get(2), GameCodec.encode(loaded));
+            org.junit.jupiter.api.Assertions.assertNull(archive.loadGame(4));
+        }
+    }
+
+    @Test
+    @DisplayName("Testing games are never split across segments")
+    void segments() throws IOException {
+        File file = tempArchive();
+        byte[] game = GameCodec.encode(newGame(5, 6));
+        int segmentSize = game.length * 3;
+        try (GameArchive archive = new GameArchive(file.getPath(), segmentSize)) {
+            for (int i = 0; i < 10; i++) {
+                archive.append(game);
+            }
+            for (int i = 0; i < 10; i++) {
+                org.junit.jupiter.api.Assertions.assertArrayEquals(game, archive.read(i));
+            }
+        }
+        //reopening keeps the segment size the archive was made with
+        try (GameArchive archive = new GameArchive(file.getPath())) {
+            org.junit.jupiter.api.Assertions.assertEquals(10, archive.size());
+            org.junit.jupiter.api.Assertions.assertArrayEquals(game, archive.read(9));
+        }
+        org.junit.jupiter.api.Assertions.assertThrows(IOException.class,
+                () -> new GameArchive(tempArchive().getPath(), game.length / 2).append(game));
+    }
+
+    @Test
+    @DisplayName("Testing summaries match the games")
+    void summaries() throws IOException {
+        File file = tempArchive();
+        List<GameModel> models = new ArrayList<>();
+        List<GameSummary> summaries = new ArrayList<>();
+        try (GameArchive archive = new GameArchive(file.getPath())) {
+            for (int i = 0; i < 3; i++) {
+                models.add(newGame(i + 20, 4));
+                archive.append(models.get(i));
+            }
+            archive.forEachSummary(summaries::add);
+        }
+        org.junit.jupiter.api.Assertions.assertEquals(3, summaries.size());
+        for (int i = 0; i < 3; i++) {
+            GameModel model = models.get(i);
+            GameSummary summary = summaries.get(i);
+            org.junit.jupiter.api.Assertions.assertEquals(i, summary.id);
+            org.junit.jupiter.api.Assertions.assertEquals(List.of("AI1", "AI2"), summary.names);
+            org.junit.jupiter.api.Assertions.assertEquals(model.players.get(0).getScore(), summary.scores[0]);
+            org.junit.jupiter.api.Assertions.assertEquals(model.players.get(1).getScore(), summary.scores[1]);
+            org.junit.jupiter.api.Assertions.assertTrue(summary.ai[0]);
+            org.junit.jupiter.api.Assertions.assertEquals(model.bag.TILES.size(), summary.tilesInBag);
+            int tilesOnBoard = 0;
+            for (int square = 0; square < Board.SIZE * Board.SIZE; square++) {
+                if (model.board.getPermTile(square / Board.SIZE, square % Board.SIZE) != null) {
+                    tilesOnBoard++;
+                }
+            }
+            org.junit.jupiter.api.Assertions.assertTrue(tilesOnBoard > 0);
+            org.junit.jupiter.api.Assertions.assertEquals(tilesOnBoard, summary.tilesOnBoard);
+        }
+    }
+
+    @Test
+    @DisplayName("Testing a game left half written is dropped on reopening")
+    void truncated() throws IOException {
+        File file = tempArchive();
+        byte[] game = GameCodec.encode(newGame(30, 2));
+        try (GameArchive archive = new GameArchive(file.getPath())) {
+            archive.append(game);
+            archive.append(game);
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 5);
+        }
+        try (GameArchive archive = new GameArchive(file.getPath())) {
+            org.junit.jupiter.api.Assertions.assertEquals(1, archive.size());
+            org.junit.jupiter.api.Assertions.assertEquals(1, archive.append(game));
+            org.junit.jupiter.api.Assertions.assertArrayEquals(game, archive.read(1));
+        }
+    }
+}
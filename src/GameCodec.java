@@ -0,0 +1,309 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * GameCodec writes a game to a compact, versioned binary format and reads it back, without Java object
+ * serialization. A saved game is a few hundred bytes rather than several kilobytes, and is read
+ * without any reflection.
+ *
+ * Every tile is a single byte: 1-26 for the letters A-Z, with BLANK added for a blank tile (so an
+ * unassigned blank is just BLANK). The board is written as a bitmap of the occupied squares followed by
+ * a byte for each tile, and the bag as the number of each letter left in it. The layout of premium
+ * squares is only written when it isn't the standard board. The bag's seed and the number of draws made
+ * from it are written last, so a loaded game draws the same tiles as the game that was saved.
+ *
+ * Format (version 2, big-endian):
+ * <pre>
+ * int magic, byte version
+ * short currentPlayerIndex, short consecutivePasses
+ * byte players, then for each: byte flags (1 = AI), UTF name, int score, byte hand size, hand tiles
+ * 27 bytes: the number of each letter (A-Z, then blanks) in the bag
+ * byte layout (0 = standard, 1 = custom), then for custom 113 bytes of premiums, two squares per byte
+ * 29 bytes: bitmap of occupied squares, row by row, then the tile of each occupied square
+ * byte temporary tiles, then for each: byte square (row * 15 + col), tile
+ * long bag seed, long draws from the bag since it was seeded
+ * </pre>
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class GameCodec {
+    /** The first four bytes of every saved game ("SCRB"). */
+    public static final int MAGIC = 0x53435242;
+    /** The version of the format written. */
+    public static final int VERSION = 2;
+    /** Added to a letter's code for a blank tile. */
+    public static final int BLANK = 0x20;
+    /** The number of kinds of tile: the 26 letters and the blank. */
+    public static final int TILE_KINDS = TileBag.KINDS;
+
+    /** The number of squares on the board. */
+    private static final int SQUARES = Board.SIZE * Board.SIZE;
+    /** Used to look up the score of each letter. */
+    private static final TileBag LETTER_SCORES = new TileBag();
+
+    /**
+     * Encodes a game.
+     * @param model The game to encode.
+     * @return The encoded bytes.
+     */
+    public static byte[] encode(GameModel model) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try {
+            write(model, bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); //can't happen writing to memory
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a game.
+     * @param bytes The encoded bytes.
+     * @return The game.
+     * @throws IOException If the bytes are not a saved game.
+     */
+    public static GameModel decode(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Writes a game to a stream.
+     * @param model The game to write.
+     * @param stream Where to write it.
+     * @throws IOException If the stream can't be written to.
+     */
+    public static void write(GameModel model, OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeShort(model.currentPlayerIndex);
+        out.writeShort(model.consecutivePasses);
+
+        out.writeByte(model.players.size());
+        for (Player player : model.players) {
+            out.writeByte(player instanceof AIPlayer ? 1 : 0);
+            out.writeUTF(player.getName());
+            out.writeInt(player.getScore());
+            out.writeByte(player.hand.size());
+            for (Tile tile : player.hand) {
+                out.writeByte(encodeTile(tile));
+            }
+        }
+
+        for (int count : model.bag.getCounts()) {
+            out.writeByte(count);
+        }
+
+        Board board = model.board;
+        Board standard = new Board();
+        standard.setDefaultBoard();
+        boolean custom = false;
+        byte[] premiums = new byte[(SQUARES + 1) / 2];
+        for (int square = 0; square < SQUARES; square++) {
+            Board.Premium premium = board.getPremium(square / Board.SIZE, square % Board.SIZE);
+            custom |= premium != standard.getPremium(square / Board.SIZE, square % Board.SIZE);
+            premiums[square / 2] |= (byte) (premium.ordinal() << (square % 2 * 4));
+        }
+        out.writeByte(custom ? 1 : 0);
+        if (custom) {
+            out.write(premiums);
+        }
+
+        byte[] occupied = new byte[(SQUARES + 7) / 8];
+        ByteArrayOutputStream tiles = new ByteArrayOutputStream(SQUARES);
+        ByteArrayOutputStream temp = new ByteArrayOutputStream();
+        int tempCount = 0;
+        for (int square = 0; square < SQUARES; square++) {
+            int row = square / Board.SIZE;
+            int col = square % Board.SIZE;
+            Tile tile = board.getPermTile(row, col);
+            if (tile != null) {
+                occupied[square / 8] |= (byte) (1 << (square % 8));
+                tiles.write(encodeTile(tile));
+            } else if (board.getTile(row, col) != null) {
+                temp.write(square);
+                temp.write(encodeTile(board.getTile(row, col)));
+                tempCount++;
+            }
+        }
+        out.write(occupied);
+        tiles.writeTo(out);
+        out.writeByte(tempCount);
+        temp.writeTo(out);
+        out.writeLong(model.bag.getSeed());
+        out.writeLong(model.bag.getDraws());
+        out.flush();
+    }
+
+    /**
+     * Reads a game from a stream.
+     * @param stream Where to read it from.
+     * @return The game.
+     * @throws IOException If the stream can't be read or doesn't hold a saved game.
+     */
+    public static GameModel read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a saved game");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+
+        GameModel model = new GameModel();
+        model.currentPlayerIndex = in.readShort();
+        model.consecutivePasses = in.readShort();
+
+        int players = in.readUnsignedByte();
+        for (int i = 0; i < players; i++) {
+            boolean ai = (in.readUnsignedByte() & 1) != 0;
+            String name = in.readUTF();
+            Player player = ai ? new AIPlayer(name, model) : new Player(name);
+            player.setScore(in.readInt());
+            int handSize = in.readUnsignedByte();
+            for (int t = 0; t < handSize; t++) {
+                player.hand.add(decodeTile(in.readUnsignedByte()));
+            }
+            model.players.add(player);
+        }
+        if (model.currentPlayerIndex < 0 || model.currentPlayerIndex >= Math.max(1, players)) {
+            throw new IOException("Bad current player " + model.currentPlayerIndex);
+        }
+
+        model.bag.TILES.clear();
+        for (int kind = 0; kind < TILE_KINDS; kind++) {
+            model.bag.addTiles(TileBag.letterOf(kind), in.readUnsignedByte());
+        }
+
+        Board board = model.board;
+        if (in.readUnsignedByte() == 0) {
+            board.setDefaultBoard();
+        } else {
+            Board.Premium[] types = Board.Premium.values();
+            byte[] premiums = new byte[(SQUARES + 1) / 2];
+            in.readFully(premiums);
+            for (int square = 0; square < SQUARES; square++) {
+                int type = (premiums[square / 2] >> (square % 2 * 4)) & 0xF;
+                if (type >= types.length) {
+                    throw new IOException("Bad premium square " + type);
+                }
+                board.setPremium(square / Board.SIZE, square % Board.SIZE, types[type]);
+            }
+        }
+
+        byte[] occupied = new byte[(SQUARES + 7) / 8];
+        in.readFully(occupied);
+        ArrayList<PlacedTile> tiles = new ArrayList<>();
+        for (int square = 0; square < SQUARES; square++) {
+            if ((occupied[square / 8] & (1 << (square % 8))) != 0) {
+                tiles.add(new PlacedTile(square / Board.SIZE, square % Board.SIZE, decodeTile(in.readUnsignedByte())));
+            }
+        }
+        board.commitTiles(tiles);
+        int tempCount = in.readUnsignedByte();
+        for (int i = 0; i < tempCount; i++) {
+            int square = in.readUnsignedByte();
+            if (square >= SQUARES) {
+                throw new IOException("Bad square " + square);
+            }
+            board.placeTempTile(square / Board.SIZE, square % Board.SIZE, decodeTile(in.readUnsignedByte()));
+        }
+        long seed = in.readLong();
+        long draws = in.readLong();
+        if (draws < 0 || draws > TileBag.MAX_DRAWS) {
+            throw new IOException("Bad bag draws " + draws); //restoring would take a random number for each
+        }
+        model.bag.restore(seed, draws);
+        return model;
+    }
+
+    /**
+     * Reads the outline of an encoded game straight from a buffer, skipping over the hands, the premium
+     * squares and the tiles themselves.
+     * @param id The id to give the summary.
+     * @param buffer The encoded game, from its position to its limit. The position is not changed.
+     * @return The summary of the game.
+     * @throws IOException If the buffer doesn't hold a saved game.
+     */
+    public static GameSummary summarize(long id, ByteBuffer buffer) throws IOException {
+        ByteBuffer in = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a saved game");
+            }
+            int version = in.get() & 0xFF;
+            if (version != VERSION) {
+                throw new IOException("Unsupported save version " + version);
+            }
+            in.position(in.position() + 4); //current player and passes
+
+            int players = in.get() & 0xFF;
+            List<String> names = new ArrayList<>(players);
+            int[] scores = new int[players];
+            boolean[] ai = new boolean[players];
+            for (int i = 0; i < players; i++) {
+                ai[i] = (in.get() & 1) != 0;
+                byte[] name = new byte[in.getShort() & 0xFFFF];
+                in.get(name);
+                names.add(new String(name, StandardCharsets.UTF_8));
+                scores[i] = in.getInt();
+                int handSize = in.get() & 0xFF;
+                in.position(in.position() + handSize); //the hand
+            }
+
+            int tilesInBag = 0;
+            for (int kind = 0; kind < TILE_KINDS; kind++) {
+                tilesInBag += in.get() & 0xFF;
+            }
+            if (in.get() != 0) {
+                in.position(in.position() + (SQUARES + 1) / 2); //the premium squares
+            }
+            int tilesOnBoard = 0;
+            for (int i = 0; i < (SQUARES + 7) / 8; i++) {
+                tilesOnBoard += Integer.bitCount(in.get() & 0xFF);
+            }
+            return new GameSummary(id, names, scores, ai, tilesOnBoard, tilesInBag);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Saved game is cut short", e);
+        }
+    }
+
+    /**
+     * Encodes a tile as a byte.
+     * @param tile The tile.
+     * @return The letter's code (1-26), plus BLANK for a blank tile.
+     */
+    public static int encodeTile(Tile tile) {
+        if (tile.isBlank()) {
+            String letter = tile.getLetter();
+            return BLANK + (letter == null || letter.equals("-") ? 0 : TileBag.kind(letter) + 1);
+        }
+        return TileBag.kind(tile.getLetter()) + 1;
+    }
+
+    /**
+     * Makes the tile for a byte written by encodeTile.
+     * @param code The tile's code.
+     * @return A new tile.
+     * @throws IOException If the code isn't a tile.
+     */
+    public static Tile decodeTile(int code) throws IOException {
+        int letter = code & ~BLANK;
+        if (letter > Dawg.LETTERS || (letter == 0 && code != BLANK)) {
+            throw new IOException("Bad tile " + code);
+        }
+        if ((code & BLANK) != 0) {
+            Tile blank = new Tile("-", 0);
+            if (letter != 0) {
+                blank.setLetter(TileBag.letterOf(letter - 1));
+            }
+            return blank;
+        }
+        String s = TileBag.letterOf(letter - 1);
+        return new Tile(s, LETTER_SCORES.scoreLetter(s));
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Test for the GameCodec class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+class GameCodecTest {
+
+    /**
+     * Makes a game part way through, with a blank tile on the board, another in a hand and a temporary tile.
+     */
+    private GameModel playedGame() {
+        GameModel model = new GameModel();
+        model.addPlayer(new Player("Human"));
+        model.addPlayer(new AIPlayer("AI", model));
+        model.setupGame(new TileBag(5));
+        model.board.setDefaultBoard();
+
+        Tile blank = new Tile("-", 0);
+        blank.setLetter("A");
+        ArrayList<PlacedTile> word = new ArrayList<>();
+        word.add(new PlacedTile(7, 6, new Tile("C", 3)));
+        word.add(new PlacedTile(7, 7, blank));
+        word.add(new PlacedTile(7, 8, new Tile("T", 1)));
+        model.board.commitTiles(word);
+        model.board.placeTempTile(8, 8, new Tile("O", 1));
+        model.players.getFirst().hand.set(0, new Tile("-", 0));
+        model.players.getFirst().setScore(10);
+        model.currentPlayerIndex = 1;
+        model.consecutivePasses = 1;
+        return model;
+    }
+
+    @Test
+    @DisplayName("Testing a game is the same after encoding and decoding")
+    void roundTrip() throws IOException {
+        GameModel model = playedGame();
+        GameModel loaded = GameCodec.decode(GameCodec.encode(model));
+
+        org.junit.jupiter.api.Assertions.assertEquals(1, loaded.currentPlayerIndex);
+        org.junit.jupiter.api.Assertions.assertEquals(1, loaded.consecutivePasses);
+        org.junit.jupiter.api.Assertions.assertEquals(2, loaded.players.size());
+        org.junit.jupiter.api.Assertions.assertEquals("Human", loaded.players.get(0).getName());
+        org.junit.jupiter.api.Assertions.assertEquals(10, loaded.players.get(0).getScore());
+        org.junit.jupiter.api.Assertions.assertInstanceOf(AIPlayer.class, loaded.players.get(1));
+        for (int p = 0; p < 2; p++) {
+            List<Tile> hand = model.players.get(p).hand;
+            List<Tile> loadedHand = loaded.players.get(p).hand;
+            org.junit.jupiter.api.Assertions.assertEquals(hand.size(), loadedHand.size());
+            for (int i = 0; i < hand.size(); i++) {
+                org.junit.jupiter.api.Assertions.assertEquals(hand.get(i).getLetter(), loadedHand.get(i).getLetter());
+                org.junit.jupiter.api.Assertions.assertEquals(hand.get(i).getScore(), loadedHand.get(i).getScore());
+            }
+        }
+        org.junit.jupiter.api.Assertions.assertEquals("-", loaded.players.getFirst().hand.getFirst().getLetter()); //a blank not yet played
+
+        List<String> bag = new ArrayList<>(model.bag.TILES);
+        List<String> loadedBag = new ArrayList<>(loaded.bag.TILES);
+        Collections.sort(bag);
+        Collections.sort(loadedBag);
+        org.junit.jupiter.api.Assertions.assertEquals(bag, loadedBag);
+        //the loaded bag carries on drawing the same tiles
+        while (!model.bag.isEmpty()) {
+            org.junit.jupiter.api.Assertions.assertEquals(model.bag.drawTile().getLetter(), loaded.bag.drawTile().getLetter());
+        }
+
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                org.junit.jupiter.api.Assertions.assertEquals(model.board.getPremium(row, col), loaded.board.getPremium(row, col));
+                Tile tile = model.board.getTile(row, col);
+                Tile loadedTile = loaded.board.getTile(row, col);
+                org.junit.jupiter.api.Assertions.assertEquals(tile == null, loadedTile == null);
+                org.junit.jupiter.api.Assertions.assertEquals(model.board.getPermTile(row, col) == null, loaded.board.getPermTile(row, col) == null);
+                if (tile != null) {
+                    org.junit.jupiter.api.Assertions.assertEquals(tile.getLetter(), loadedTile.getLetter());
+                    org.junit.jupiter.api.Assertions.assertEquals(tile.isBlank(), loadedTile.isBlank());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Testing a custom board layout is kept")
+    void customBoard() throws IOException {
+        GameModel model = playedGame();
+        model.board.setPremium(0, 1, Board.Premium.TRIPLE_WORD);
+        GameModel loaded = GameCodec.decode(GameCodec.encode(model));
+
+        org.junit.jupiter.api.Assertions.assertEquals(Board.Premium.TRIPLE_WORD, loaded.board.getPremium(0, 1));
+        org.junit.jupiter.api.Assertions.assertEquals(Board.Premium.TRIPLE_WORD, loaded.board.getPremium(0, 0));
+    }
+
+    @Test
+    @DisplayName("Testing a saved game is much smaller than with object serialization")
+    void size() throws IOException {
+        GameModel model = playedGame();
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(model);
+        }
+        org.junit.jupiter.api.Assertions.assertTrue(GameCodec.encode(model).length * 10 < serialized.size());
+    }
+
+    @Test
+    @DisplayName("Testing games saved with object serialization are not loaded")
+    void serialized() throws IOException {
+        File file = File.createTempFile("serialized", ".ser");
+        file.deleteOnExit();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeObject(playedGame());
+        }
+        org.junit.jupiter.api.Assertions.assertNull(GameModel.loadGame(file.getPath()));
+    }
+
+    @Test
+    @DisplayName("Testing data which is not a saved game is rejected")
+    void notAGame() {
+        org.junit.jupiter.api.Assertions.assertThrows(IOException.class, () -> GameCodec.decode(new byte[] {1, 2, 3, 4, 5}));
+        byte[] bad = GameCodec.encode(playedGame());
+        bad[4] = 99; //unknown version
+        org.junit.jupiter.api.Assertions.assertThrows(IOException.class, () -> GameCodec.decode(bad));
+        byte[] endless = GameCodec.encode(playedGame());
+        Arrays.fill(endless, endless.length - Long.BYTES + 1, endless.length, (byte) 0xFF); //the draws, last in the save
+        endless[endless.length - Long.BYTES] = 0x7F;
+        org.junit.jupiter.api.Assertions.assertTimeoutPreemptively(java.time.Duration.ofSeconds(5),
+                () -> org.junit.jupiter.api.Assertions.assertThrows(IOException.class, () -> GameCodec.decode(endless)));
+    }
+}
@@ -10,6 +10,11 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.swing.SwingUtilities;
 
 public class GameController implements ActionListener {
     private GameModel model;
@@ -28,6 +33,19 @@ public class GameController implements ActionListener {
     /** stack of redo operations */
     private ArrayList<PlacedTile> redoStack = new ArrayList<>();
 
+    /** The worker thread AI players search for their plays on, so the window stays responsive. */
+    private final ExecutorService aiWorker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "AI turn");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The AI search currently running, or null if it isn't an AI player's turn. */
+    private Future<?> aiSearch;
+    /** Counts the AI turns started, so the result of a cancelled search is never applied. */
+    private int aiTurnNumber = 0;
+    /** Whether the view has been told the game is over, so it is only told once. */
+    private boolean gameOverShown = false;
+
     /**
      * Constructs a new GameController, taking the Model and View as parameters
      *
@@ -50,6 +68,9 @@ public class GameController implements ActionListener {
         if (command.equals(null)) {
             return;
         }
+        if (isAITurnRunning() || model.isGameOver()) {
+            return; //ignore input while an AI player is thinking, and once the game is over
+        }
 
         if (command.startsWith("TILE:")) {
             String num = command.substring(5);
@@ -116,11 +137,13 @@ public class GameController implements ActionListener {
         placedTiles.clear();
         clearSelections();
 
-        model.currentPlayerIndex = (model.currentPlayerIndex + 1) % model.players.size();
-        model.notifyViews();
+        model.nextTurn();
 
+        if (checkGameOver()) {
+            return;
+        }
         if (model.getCurrentPlayer() instanceof AIPlayer) {
-            handleAITurn();
+            startAITurn(); //runs on the worker thread, so turns never call each other recursively
         }
     }
 
@@ -173,10 +196,7 @@ public class GameController implements ActionListener {
         boolean valid = p.playWord(model.board, placedTiles);
 
         if (valid) {
-            model.board.commitTiles(placedTiles);
-            p.fillHand(model.bag);
-            int score = model.scorePlacedTiles(placedTiles);
-            p.setScore(p.getScore() + score);
+            model.completePlay(placedTiles);
             view.update(model);
             nextPlayer();
         } else {
@@ -195,16 +215,12 @@ public class GameController implements ActionListener {
      * The logic that executes once the "Swap" button has been pressed.
      */
     private void handleSwap() {
-        Player p = model.getCurrentPlayer();
         ArrayList<Tile> tilesToSwap = new ArrayList<>();
         if (selectedTileIndex == null) {
             view.showError("Select a tile first!");
             return;
         }
-        Tile t = p.removeTileByIndex(selectedTileIndex);
-        if (t != null) {
-            model.bag.addTile(t);
-            p.fillHand(model.bag);
+        if (model.swapTile(selectedTileIndex)) {
             selectedTileIndex = null;
             view.update(model);
         }
@@ -214,16 +230,26 @@ public class GameController implements ActionListener {
      * Handles the logic for what occurs after the "Pass" button is pressed.
      */
     private void handlePass() {
-        Player p = model.getCurrentPlayer();
-        for (Tile t: p.hand) {
-            model.bag.addTile(t);
-        }
-        p.hand.clear();
-        p.fillHand(model.bag);
+        model.passTurn();
         view.update(model);
         nextPlayer();
     }
 
+    /**
+     * Tells the view the game is over, the first time this is called after it ends.
+     * @return true if the game is over.
+     */
+    private boolean checkGameOver() {
+        if (!model.isGameOver()) {
+            return false;
+        }
+        if (!gameOverShown) {
+            gameOverShown = true;
+            view.showGameOver(model);
+        }
+        return true;
+    }
+
     /**
      * Clears the user selections from the grid and hand.
      */
@@ -234,52 +260,95 @@ public class GameController implements ActionListener {
     }
 
     /**
-     * The logic for handling the turns of AI players in the scrabble game.
+     * Starts the turn of the current AI player. The AI searches for its play on the worker thread, and the
+     * play is then made on the event dispatch thread, so the window stays responsive while it thinks. If the game
+     * is already over, the view is told instead.
      */
-    private void handleAITurn() {
-        AIPlayer ai = (AIPlayer) model.getCurrentPlayer();
-        Move bestMove = ai.findBestMove();
-
-        if (bestMove == null) {
-            handlePass();
+    public void startAITurn() {
+        if (checkGameOver() || !(model.getCurrentPlayer() instanceof AIPlayer ai) || isAITurnRunning()) {
             return;
         }
-
-        placedTiles.clear();
-        for (PlacedTile pt : bestMove.placedTiles) {
-            if (model.board.getPermTile(pt.row, pt.col) == null) {
-                placedTiles.add(pt);
+        int turn = ++aiTurnNumber;
+        aiSearch = aiWorker.submit(() -> {
+            Move bestMove;
+            try {
+                bestMove = ai.findBestMove();
+            } catch (CancellationException ex) {
+                return;
+            } catch (RuntimeException ex) {
+                System.err.println("The AI search failed: " + ex);
+                ex.printStackTrace();
+                SwingUtilities.invokeLater(() -> failAITurn(turn, ex));
+                return;
             }
-        }
-        if (placedTiles.isEmpty()) {
-            handlePass();
+            SwingUtilities.invokeLater(() -> finishAITurn(turn, bestMove));
+        });
+    }
+
+    /**
+     * Stops the AI turn in progress, if any, without making a play. The turn can be started again with startAITurn.
+     */
+    public void cancelAITurn() {
+        if (aiSearch == null) {
             return;
         }
-
-        for (PlacedTile pt : placedTiles) {
-            model.board.placeTempTile(pt.row, pt.col, pt.tile);
+        aiTurnNumber++;
+        if (model.getCurrentPlayer() instanceof AIPlayer ai) {
+            ai.cancelSearch();
         }
-        model.board.commitTiles(placedTiles);
-        model.board.clearTempGrid();
+        aiSearch.cancel(true);
+        aiSearch = null;
+    }
 
-        ArrayList<String> removeLetters = new ArrayList<>();
-        for (PlacedTile pt : placedTiles) {
-            removeLetters.add(pt.tile.getLetter().toUpperCase());
-        }
-        for (int letter = 0; letter < removeLetters.size(); letter++) {
-            String letterToRemove = removeLetters.get(letter);
-            for (int i = 0; i < ai.getHand().size(); i++) {
-                if (ai.getHand().get(i).getLetter().equalsIgnoreCase(letterToRemove)) {
-                    ai.removeTileByIndex(i);
-                    break;
-                }
-            }
+    /**
+     * Returns whether an AI player is currently searching for its play.
+     * @return true if an AI turn is in progress.
+     */
+    public boolean isAITurnRunning() {
+        return aiSearch != null;
+    }
+
+    /**
+     * Cancels any AI turn in progress and stops the worker thread, for when the game is closed.
+     */
+    public void shutdown() {
+        cancelAITurn();
+        aiWorker.shutdownNow();
+    }
+
+    /**
+     * Ends an AI turn whose search failed: the error is shown and the AI player passes, so the game goes on.
+     * @param turn The number of the AI turn which failed.
+     * @param error What went wrong.
+     */
+    private void failAITurn(int turn, RuntimeException error) {
+        if (turn != aiTurnNumber || aiSearch == null) {
+            return; //the turn was cancelled
         }
+        aiSearch = null;
+
+        view.showError(model.getCurrentPlayer().getName() + " could not find a play (" + error.getMessage() + ") and passes.");
+        TurnScheduler.applyTurn(model, null);
+
+        placedTiles.clear();
+        clearSelections();
+        view.update(model);
 
-        ai.fillHand(model.bag);
+        nextPlayer();
+    }
+
+    /**
+     * The logic for handling the turns of AI players in the scrabble game, once the AI has found its play.
+     * @param turn The number of the AI turn the play was found for.
+     * @param bestMove The play found, or null if the AI player has no legal play (it passes).
+     */
+    private void finishAITurn(int turn, Move bestMove) {
+        if (turn != aiTurnNumber || aiSearch == null) {
+            return; //the turn was cancelled
+        }
+        aiSearch = null;
 
-        int turnScore = model.scorePlacedTiles(placedTiles);
-        ai.setScore(ai.getScore() + turnScore);
+        TurnScheduler.applyTurn(model, bestMove);
 
         placedTiles.clear();
         clearSelections();
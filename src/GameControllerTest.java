@@ -0,0 +1,127 @@
+/**
+ * Test for the GameController class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+class GameControllerTest {
+
+    /**
+     * A view which records the errors shown and how many times it was told the game is over.
+     */
+    private static class RecordingView implements GameView {
+        final List<String> errors = new ArrayList<>();
+        int gameOvers = 0;
+
+        @Override
+        public void update(GameModel model) {
+        }
+
+        @Override
+        public void showError(String error) {
+            errors.add(error);
+        }
+
+        @Override
+        public char promptBlankLetter() {
+            return 'A';
+        }
+
+        @Override
+        public void showGameOver(GameModel model) {
+            gameOvers++;
+        }
+    }
+
+    private static ActionEvent command(String command) {
+        return new ActionEvent(GameControllerTest.class, ActionEvent.ACTION_PERFORMED, command);
+    }
+
+    @Test
+    @DisplayName("Testing a failed AI search is reported, the AI passes and input is accepted again")
+    void failedAITurn() throws Exception {
+        GameModel model = new GameModel();
+        AIPlayer broken = new AIPlayer("AI1", model) {
+            @Override
+            public Move findBestMove() {
+                throw new IllegalStateException("search failed");
+            }
+        };
+        model.addPlayer(broken);
+        model.addPlayer(new Player("p2"));
+        model.setupGame();
+        RecordingView view = new RecordingView();
+        GameController controller = new GameController(model, view);
+
+        SwingUtilities.invokeAndWait(controller::startAITurn);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            boolean[] running = new boolean[1];
+            SwingUtilities.invokeAndWait(() -> running[0] = controller.isAITurnRunning());
+            if (!running[0]) {
+                break;
+            }
+            Thread.sleep(10);
+        }
+
+        org.junit.jupiter.api.Assertions.assertFalse(controller.isAITurnRunning());
+        org.junit.jupiter.api.Assertions.assertEquals(1, view.errors.size());
+        org.junit.jupiter.api.Assertions.assertTrue(view.errors.getFirst().contains("search failed"));
+        org.junit.jupiter.api.Assertions.assertEquals(1, model.currentPlayerIndex); //the AI passed
+
+        //input is handled again: placing without a selected tile reports an error rather than being ignored
+        SwingUtilities.invokeAndWait(() -> controller.actionPerformed(command("7,7")));
+        org.junit.jupiter.api.Assertions.assertEquals(2, view.errors.size());
+        controller.shutdown();
+    }
+
+    @Test
+    @DisplayName("Testing the view is told once when the game ends on a human's turn, and input is then ignored")
+    void gameOverOnHumanTurn() {
+        GameModel model = new GameModel();
+        model.addPlayer(new Player("p1"));
+        model.addPlayer(new Player("p2"));
+        model.setupGame();
+        model.consecutivePasses = 3;
+        RecordingView view = new RecordingView();
+        GameController controller = new GameController(model, view);
+
+        controller.actionPerformed(command("Pass")); //the fourth pass in a row ends the game
+        org.junit.jupiter.api.Assertions.assertTrue(model.isGameOver());
+        org.junit.jupiter.api.Assertions.assertEquals(1, view.gameOvers);
+
+        controller.actionPerformed(command("Pass"));
+        controller.actionPerformed(command("7,7"));
+        org.junit.jupiter.api.Assertions.assertEquals(4, model.consecutivePasses);
+        org.junit.jupiter.api.Assertions.assertEquals(1, model.currentPlayerIndex);
+        org.junit.jupiter.api.Assertions.assertTrue(view.errors.isEmpty());
+        org.junit.jupiter.api.Assertions.assertEquals(1, view.gameOvers);
+        controller.shutdown();
+    }
+
+    @Test
+    @DisplayName("Testing an AI turn in a finished game tells the view instead of searching")
+    void gameOverOnAITurn() {
+        GameModel model = new GameModel();
+        model.addPlayer(new AIPlayer("AI1", model));
+        model.addPlayer(new Player("p2"));
+        model.setupGame();
+        model.consecutivePasses = 4;
+        RecordingView view = new RecordingView();
+        GameController controller = new GameController(model, view);
+
+        controller.startAITurn();
+        org.junit.jupiter.api.Assertions.assertFalse(controller.isAITurnRunning());
+        org.junit.jupiter.api.Assertions.assertEquals(1, view.gameOvers);
+        controller.shutdown();
+    }
+}
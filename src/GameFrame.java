@@ -7,10 +7,25 @@
  */
 
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import javax.swing.*;
 
 public class GameFrame extends JFrame implements GameView {
+    /** The file every turn of the game is journaled to. */
+    private static final String JOURNAL_FILE = "game_journal.dat";
+    /** The file the game is saved to from the Save menu. */
+    private static final String SAVE_FILE = "saved_game.ser";
+    /** The file the game is saved to after every turn, kept apart so it never overwrites a saved game. */
+    private static final String AUTOSAVE_FILE = "autosave.ser";
+    /** Saves the game in the background after every turn. */
+    private final transient AutoSaver autoSaver = new AutoSaver(AUTOSAVE_FILE);
+    /** Saves the game in the background when the Save menu is used. */
+    private final transient AutoSaver gameSaver = new AutoSaver(SAVE_FILE);
+
     private JButton[][] grid;
     private JButton[] colMarkers;
     private JButton[] rowMarkers;
@@ -25,37 +40,61 @@ public class GameFrame extends JFrame implements GameView {
     private ArrayList<JPanel> playerHand;
 
     private JPanel bottom;
+    /** Loads the dictionary and board layouts in the background while the setup dialogs are shown. */
+    private final transient StartupLoader startup;
+
+    /** A player chosen in the setup dialogs. */
+    private record PlayerChoice(String name, boolean human) { }
 
     /**
      * Constructs a new GameFrame, taking no parameters.
      */
     public GameFrame() {
+        this(StartupLoader.start());
+    }
+
+    /**
+     * Constructs a new GameFrame whose game uses what a StartupLoader has been loading.
+     * @param startup The loader of the dictionary and board layouts.
+     */
+    public GameFrame(StartupLoader startup) {
         super ("Scrabble");
-        model = new GameModel();
-        model.acceptedWords.load("scrabble_acceptedwords.csv"); //are we able to remove this (happens in model already)
+        this.startup = startup;
         this.setLayout(new BorderLayout());
 
-        String[] options = {"New Game", "Load Game"};
+        String[] options = {"New Game", "Load Game", "Resume Last Game", "Load Autosave"};
         int option = JOptionPane.showOptionDialog(this,"Start a new game or load a saved game?", "Start Game", JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, options, options[0]);
         if (option == 1) {
-            GameModel loaded = GameModel.loadGame("saved_game.ser");
-            if (loaded != null) {
-                model = loaded;
-                gameBoard = model.board;
-                JOptionPane.showMessageDialog(this,"Game has been loaded!", "Load Game", JOptionPane.INFORMATION_MESSAGE);
-            } else {
-                JOptionPane.showMessageDialog(this, "Failed to load game, starting new game", "Load Game", JOptionPane.ERROR_MESSAGE);
+            loadSavedGame(SAVE_FILE, "Load Game");
+        } else if (option == 3) {
+            loadSavedGame(AUTOSAVE_FILE, "Load Autosave");
+        } else if (option == 2) {
+            try {
+                model = MoveJournal.restore(JOURNAL_FILE);
+                JOptionPane.showMessageDialog(this,"Game has been resumed!", "Resume Game", JOptionPane.INFORMATION_MESSAGE);
+            } catch (IOException e) {
+                System.err.println("Error resuming game: " + e.getMessage());
+                JOptionPane.showMessageDialog(this, "Failed to resume game, starting new game", "Resume Game", JOptionPane.ERROR_MESSAGE);
                 setupNewGame();
             }
         } else {
             setupNewGame();
         }
+        if (model.getJournal() == null) {
+            //every turn from here on is saved to the journal, so the game can always be resumed
+            try {
+                MoveJournal.start(model, JOURNAL_FILE);
+            } catch (IOException e) {
+                System.err.println("Error starting journal: " + e.getMessage());
+            }
+        }
 
         gameBoard = model.board;
         if (model.views == null) {
             model.views = new ArrayList<>();
         }
         model.addView(this);
+        model.addView(autoSaver);
 
         controller = new GameController(model, this);
 
@@ -69,8 +108,31 @@ public class GameFrame extends JFrame implements GameView {
         menuBar.add(fileMenu);
         setJMenuBar(menuBar);
 
-        saveOption.addActionListener(e-> {model.saveGame("saved_game.ser");
-        JOptionPane.showMessageDialog(this, "Game saved successfully!", "Save Game", JOptionPane.INFORMATION_MESSAGE);});
+        saveOption.addActionListener(e-> {
+            //the snapshot is taken here and written in the background, so an AI turn in progress carries on
+            gameSaver.save(model).whenComplete((v, ex) -> SwingUtilities.invokeLater(() -> {
+                if (ex == null) {
+                    JOptionPane.showMessageDialog(this, "Game saved successfully!", "Save Game", JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this, "Failed to save game", "Save Game", JOptionPane.ERROR_MESSAGE);
+                }
+            }));
+        });
+        this.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                controller.shutdown();
+                autoSaver.close();
+                gameSaver.close();
+                if (model.getJournal() != null) {
+                    try {
+                        model.getJournal().close();
+                    } catch (IOException ex) {
+                        System.err.println("Error closing journal: " + ex.getMessage());
+                    }
+                }
+            }
+        });
 
         JPanel panel =  new JPanel();
         panel.setSize(800, 600);
@@ -127,6 +189,9 @@ public class GameFrame extends JFrame implements GameView {
         this.pack();
         this.setLocationRelativeTo(null);
         this.setVisible(true);
+
+        //a game saved during an AI player's turn carries on with that turn, and a finished game says so
+        controller.startAITurn();
     }
 
     /**
@@ -157,7 +222,8 @@ public class GameFrame extends JFrame implements GameView {
      * @param count The number of players in the current game.
      */
 
-    private void askPlayerInfo(GameModel model, int count) {
+    private List<PlayerChoice> askPlayerInfo(int count) {
+        List<PlayerChoice> players = new ArrayList<>();
         for (int i = 1; i <= count; i++) {
             boolean human = false;
             String name;
@@ -167,7 +233,7 @@ public class GameFrame extends JFrame implements GameView {
                 if (name.equals(null) ||  name.isEmpty()) {
                     name = "Player" + i;
                 }
-                model.addPlayer(new Player(name));
+                players.add(new PlayerChoice(name, true));
             } else {
                 String input = JOptionPane.showInputDialog(this, "Will player " + i + " be human or AI", "Human or AI", JOptionPane.QUESTION_MESSAGE);
                 input = input.toLowerCase();
@@ -179,14 +245,14 @@ public class GameFrame extends JFrame implements GameView {
                     if (name.equals(null) ||  name.isEmpty()) {
                         name = "Player" + i;
                     }
-                    model.addPlayer(new Player(name));
+                    players.add(new PlayerChoice(name, true));
                 } else {
                     name = "AIPlayer" + i;
-                    model.addPlayer(new AIPlayer(name, model));
+                    players.add(new PlayerChoice(name, false));
                 }
             }
         }
-
+        return players;
     }
 
     /**
@@ -321,6 +387,23 @@ public class GameFrame extends JFrame implements GameView {
         JOptionPane.showMessageDialog(this, message, "Error", JOptionPane.ERROR_MESSAGE);
     }
 
+    /**
+     * Shows the final scores and the winner once the game is over. The controller ignores input from then on.
+     * @param model A GameModel containing all the game logic.
+     */
+    public void showGameOver(GameModel model) {
+        StringBuilder message = new StringBuilder("Game over!\n");
+        Player winner = model.players.getFirst();
+        for (Player p : model.players) {
+            message.append(p.getName()).append("'s Score: ").append(p.getScore()).append("\n");
+            if (p.getScore() > winner.getScore()) {
+                winner = p;
+            }
+        }
+        message.append(winner.getName()).append(" wins!");
+        JOptionPane.showMessageDialog(this, message.toString(), "Game Over", JOptionPane.INFORMATION_MESSAGE);
+    }
+
     /**
      * Updates the game board to display tile changes.
      * @param model A GameModel that contains all of the game logic
@@ -382,39 +465,58 @@ public class GameFrame extends JFrame implements GameView {
         };
     }
 
+    /**
+     * Loads a saved game, or sets up a new game if it can't be loaded.
+     * @param file The file the game was saved to.
+     * @param title The title of the dialog telling the user how loading went.
+     */
+    private void loadSavedGame(String file, String title) {
+        GameModel loaded = GameModel.loadGame(file);
+        if (loaded != null) {
+            model = loaded;
+            gameBoard = model.board;
+            JOptionPane.showMessageDialog(this,"Game has been loaded!", title, JOptionPane.INFORMATION_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(this, "Failed to load game, starting new game", title, JOptionPane.ERROR_MESSAGE);
+            setupNewGame();
+        }
+    }
+
     /**
      * Sets up a new game of scrabble, prompting the user to choose number of players
      * and other details
      */
     private void setupNewGame() {
-        model = new GameModel();
         int numPlayers = askPlayerCount();
-        askPlayerInfo(model, numPlayers);
+        List<PlayerChoice> players = askPlayerInfo(numPlayers);
 
         String[] choices = {"Standard", "Custom 1", "Custom 2"};
         String choice = (String) JOptionPane.showInputDialog(this, "Select a game board:", "Board Selection", JOptionPane.QUESTION_MESSAGE, null, choices, choices[0]);
 
+        //the dictionary has been loading while the dialogs were open, so this rarely has to wait
+        model = new GameModel(startup.getDictionary());
+        for (PlayerChoice player : players) {
+            model.addPlayer(player.human() ? new Player(player.name()) : new AIPlayer(player.name(), model));
+        }
         model.setupGame();
         gameBoard = model.board;
 
-        for (int r = 0; r < Board.SIZE; r++) {
-            for (int c = 0; c < Board.SIZE; c++) {
-                gameBoard.setPremium(r, c, Board.Premium.NORMAL);
-            }
-        }
         if ("Standard".equals(choice)) {
             gameBoard.setDefaultBoard();
-        } else if ("Custom 1".equals(choice)) {
-            BoardLoader.importBoardXML(gameBoard, "custom_board1.xml");
         } else {
-            BoardLoader.importBoardXML(gameBoard, "custom_board2.xml");
+            Board.Premium[][] layout = startup.getLayout("Custom 1".equals(choice) ? "custom_board1.xml" : "custom_board2.xml");
+            if (layout == null) {
+                gameBoard.setDefaultBoard();
+            } else {
+                gameBoard.setLayout(layout);
+            }
         }
-
     }
 
 
     public static void main(String[] args) {
-        GameFrame frame = new GameFrame();
+        StartupLoader startup = StartupLoader.start(); //before any window, so loading overlaps the setup dialogs
+        GameFrame frame = new GameFrame(startup);
     }
 
 }
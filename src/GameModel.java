@@ -1,4 +1,3 @@
-import java.awt.*;
 import java.io.*;
 import java.util.*;
 import java.util.List;
@@ -20,9 +19,14 @@ public class GameModel implements Serializable {
      */
     public ArrayList<Player> players;
     /**
-     * The dictionary of accepted words for the game.
+     * The dictionary of accepted words used by boards which haven't been given one, or null for the
+     * standard word list. Each game is given its own dictionary, so this isn't replaced by new games.
      */
-    public static Dictionary acceptedWords;
+    public static volatile Dictionary acceptedWords;
+    /**
+     * The dictionary of accepted words for the game, or null for the default one.
+     */
+    private transient Dictionary dictionary;
 
     public TileBag bag;
     public Board board;
@@ -30,19 +34,57 @@ public class GameModel implements Serializable {
 
     /** An integer containing the index of the current player */
     public int currentPlayerIndex = 0;
+    /** The number of turns in a row that have been passed without scoring. */
+    public int consecutivePasses = 0;
 
     public transient List<GameView> views = new ArrayList<>();
     private transient List<PlacedTile> placedTiles = new ArrayList<>();
+    /** The journal each play, swap and pass is appended to, or null if the game isn't journaled. */
+    private transient MoveJournal journal;
+
+    /** Something to append to the journal. */
+    private interface JournalEntry {
+        void write(MoveJournal journal) throws IOException;
+    }
 
     /**
-     * Constructs a new Game.
+     * Constructs a new Game which checks words with the default dictionary.
      */
     public GameModel() {
+        this(defaultDictionary());
+    }
+
+    /**
+     * Constructs a new Game which checks words with a given dictionary, which may be shared with other games.
+     * @param dictionary The dictionary of accepted words.
+     */
+    public GameModel(Dictionary dictionary) {
         players = new ArrayList<>();
-        acceptedWords = new Dictionary();
-        acceptedWords.load("scrabble_acceptedwords.csv");
+        this.dictionary = dictionary;
         bag = new TileBag();
         board = new Board();
+        board.setDictionary(dictionary);
+    }
+
+    /**
+     * Returns the dictionary used by games and boards which aren't given one: acceptedWords if it is set,
+     * and otherwise the standard word list, which is only loaded once however many games use it.
+     * @return The default dictionary.
+     */
+    public static Dictionary defaultDictionary() {
+        Dictionary words = acceptedWords;
+        return words != null ? words : LexiconRegistry.standard();
+    }
+
+    /**
+     * Returns the dictionary of accepted words for the game.
+     * @return The game's dictionary.
+     */
+    public Dictionary getDictionary() {
+        if (dictionary == null) {
+            dictionary = defaultDictionary(); //not saved with the game
+        }
+        return dictionary;
     }
 
     /**
@@ -62,9 +104,19 @@ public class GameModel implements Serializable {
      * index and other relevant values to defaults.
      */
     public void setupGame() {
+        setupGame(new TileBag());
+    }
+
+    /**
+     * Sets up a new game with a given bag of tiles, such as a seeded bag for a repeatable game.
+     * @param bag The bag the tiles are drawn from.
+     */
+    public void setupGame(TileBag bag) {
         board = new Board();
-        bag  = new TileBag();
+        board.setDictionary(getDictionary());
+        this.bag = bag;
         currentPlayerIndex = 0;
+        consecutivePasses = 0;
 
         for (Player player : players) {
             player.fillHand(bag);
@@ -83,204 +135,149 @@ public class GameModel implements Serializable {
     }
 
     /**
-     * Returns the score for tiles placed on the gameboard.
-     * @param placedTiles An ArrayList of tiles placed on the board during the turn
-     * @return An integer containing the total score, including premium tile multipliers
+     * Makes a play for the current player from tiles in their hand which are not yet on the board, as found
+     * by an AIPlayer. The tiles are committed, removed from the hand and scored, and the hand is refilled.
+     * @param move The play to be made.
+     * @return The score of the play.
      */
-    public int scorePlacedTiles(ArrayList<PlacedTile> placedTiles) {
-        boolean sameRow = placedTiles.stream().allMatch(pt -> pt.row == placedTiles.getFirst().row);
-        boolean sameCol = placedTiles.stream().allMatch(pt-> pt.col == placedTiles.getFirst().col);
-
-        //invalid move (should never be called, but to be caught in case
-        if (!sameRow && !sameCol) {
-            return 0;
-        }
-
-        int totalScore = 0;
-
-        StringBuilder word = new StringBuilder();
-        int wordMultiplier = 1;
-        int wordScore = 0;
-
-        if (sameRow) {
-            int row = placedTiles.getFirst().row;
-            int col = placedTiles.getFirst().col;
-
-            int start = col;
-            while (start > 0 && board.getTile(row, start - 1) != null ) {
-                start -= 1;
+    public int playMove(Move move) {
+        Player player = getCurrentPlayer();
+        ArrayList<PlacedTile> tiles = new ArrayList<>();
+        for (PlacedTile pt : move.placedTiles) {
+            if (board.getPermTile(pt.row, pt.col) == null) {
+                tiles.add(pt);
+                player.removeTile(pt.tile);
             }
+        }
+        return completePlay(tiles);
+    }
 
-            int end = col;
-            while (end < board.SIZE - 1 && board.getTile(row, end + 1) != null) {
-                end += 1;
-            }
-            for (int c = start; c <= end; c++) {
-                Tile t = board.getTile(row, c);
-                if (t == null) {
-                    return 0; //shouldn't happen but there for safety
-                }
-                word.append(t.getLetter());
-
-                int letterScore = t.getScore();
-                int finalC = c;
-
-                boolean newTile = placedTiles.stream().anyMatch(pt -> pt.row == row && pt.col == finalC);
-                Board.Premium premium = board.getPremium(row, c);
+    /**
+     * Finishes a valid play for the current player once its tiles have left their hand: the tiles are committed,
+     * the hand is refilled from the bag and the score is added to the player's total.
+     * @param placedTiles The tiles placed during the turn.
+     * @return The score of the play.
+     */
+    public int completePlay(ArrayList<PlacedTile> placedTiles) {
+        Player player = getCurrentPlayer();
+        board.commitTiles(placedTiles);
+        board.clearTempGrid();
+        player.fillHand(bag);
+        MoveEvaluator.Result play = player.takeLastPlay(placedTiles);
+        int score = placedTiles.isEmpty() ? 0 : play != null ? play.score() : scorePlacedTiles(placedTiles);
+        player.setScore(player.getScore() + score);
+        consecutivePasses = 0;
+        int index = currentPlayerIndex;
+        writeJournal(j -> j.recordPlay(this, index, placedTiles, score));
+        return score;
+    }
 
-                if (newTile) {
-                    if (premium == Board.Premium.DOUBLE_LETTER) {
-                        letterScore *= 2;
-                    } else if (premium == Board.Premium.TRIPLE_LETTER) {
-                        letterScore *= 3;
-                    } else if (premium == Board.Premium.DOUBLE_WORD) {
-                        wordMultiplier *= 2;
-                    } else if (premium == Board.Premium.TRIPLE_WORD) {
-                        wordMultiplier *= 3;
-                    }
-                }
-                wordScore += letterScore;
-            }
-        } else {
-            int col = placedTiles.getFirst().col;
-            int row =  placedTiles.getFirst().row;
+    /**
+     * Swaps a tile from the current player's hand for a new one from the bag. The turn does not end.
+     * @param handIndex The index of the tile in the player's hand.
+     * @return true if the tile was swapped, false if there is no tile at that index.
+     */
+    public boolean swapTile(int handIndex) {
+        Player player = getCurrentPlayer();
+        Tile t = player.removeTileByIndex(handIndex);
+        if (t == null) {
+            return false;
+        }
+        bag.addTile(t);
+        player.fillHand(bag);
+        int index = currentPlayerIndex;
+        writeJournal(j -> j.recordSwap(this, index, handIndex, t));
+        return true;
+    }
 
-            int start = row;
-            while (start > 0 && board.getTile(start - 1, col) != null) {
-                start -= 1;
-            }
-            int end = row;
-            while (end < board.SIZE - 1 && board.getTile(end + 1, col) != null) {
-                end += 1;
-            }
+    /**
+     * Passes the current player's turn, returning their hand to the bag and drawing a new one.
+     */
+    public void passTurn() {
+        Player player = getCurrentPlayer();
+        ArrayList<Tile> returned = new ArrayList<>(player.hand);
+        for (Tile t : player.hand) {
+            bag.addTile(t);
+        }
+        player.hand.clear();
+        player.fillHand(bag);
+        consecutivePasses++;
+        int index = currentPlayerIndex;
+        writeJournal(j -> j.recordPass(this, index, returned));
+    }
 
-            for (int r = start; r <= end; r++) {
-                Tile t = board.getTile(r, col);
-                if (t == null) {
-                    return 0;
-                }
-                word.append(t.getLetter());
-                int letterScore = t.getScore();
-                int finalR = r;
+    /**
+     * Starts appending every play, swap and pass to a journal.
+     * @param journal The journal, or null to stop journaling.
+     */
+    public void setJournal(MoveJournal journal) {
+        this.journal = journal;
+    }
 
-                boolean newTile = placedTiles.stream().anyMatch(pt -> pt.row == finalR && pt.col == col);
-                Board.Premium premium = board.getPremium(r, col);
+    /**
+     * Returns the journal the game is appended to.
+     * @return The journal, or null if the game isn't journaled.
+     */
+    public MoveJournal getJournal() {
+        return journal;
+    }
 
-                if (newTile) {
-                    if (premium == Board.Premium.DOUBLE_LETTER) {
-                        letterScore *= 2;
-                    } else if (premium == Board.Premium.TRIPLE_LETTER) {
-                        letterScore *= 3;
-                    } else if (premium == Board.Premium.DOUBLE_WORD) {
-                        wordMultiplier *= 2;
-                    } else if (premium == Board.Premium.TRIPLE_WORD) {
-                        wordMultiplier *= 3;
-                    }
-                }
-                wordScore += letterScore;
-            }
+    /**
+     * Appends an entry to the journal, if the game is journaled. The game carries on if it can't be written.
+     * @param entry The entry to append.
+     */
+    private void writeJournal(JournalEntry entry) {
+        if (journal == null) {
+            return;
         }
-        //should only happen in the case of checking the perpendicular words.
-        if (!acceptedWords.checkWord(word.toString())) {
-            return 0;
+        try {
+            entry.write(journal);
+        } catch (IOException e) {
+            System.err.println("Error writing journal: " + e.getMessage());
         }
-        wordScore *= wordMultiplier;
-        totalScore += wordScore;
-
-        //checking the perpendicular word
-        for (PlacedTile pt: placedTiles) {
-            StringBuilder cross = new StringBuilder();
-            int crossWordMultiplier = 1;
-            int crossScore = 0;
-
-            if (sameRow) {
-                int r =  pt.row;
-                int col = pt.col;
-                int start = r;
-                while (start > 0 && board.getTile(start - 1, pt.col)!= null) {
-                    start -= 1;
-                }
-                int end = r;
-                while (end < board.SIZE - 1 && board.getTile(end + 1, pt.col)!= null) {
-                    end += 1;
-                }
-
-                //cross word is only 1 tile long
-                if (end - start >= 1) {
-                    for (int row = start; row <= end; row++) {
-                        Tile t = board.getTile(row, pt.col);
-                        cross.append(t.getLetter());
-                        int letterScore = t.getScore();
-
-                        int finalRow = row;
-                        boolean newTile = placedTiles.stream().anyMatch(p-> p.row == finalRow && p.col == col);
-                        Board.Premium premium = board.getPremium(row, col);
-
-                        if (newTile) {
-                            if (premium == Board.Premium.DOUBLE_LETTER) {
-                                letterScore *= 2;
-                            } else if (premium == Board.Premium.TRIPLE_LETTER) {
-                                letterScore *= 3;
-                            } else if (premium == Board.Premium.DOUBLE_WORD) {
-                                crossWordMultiplier *= 2;
-                            } else if (premium == Board.Premium.TRIPLE_WORD) {
-                                crossWordMultiplier *= 3;
-                            }
-                        }
-                        crossScore += letterScore;
-                    }
-                    if (cross.length() > 1) {
-                        if (!acceptedWords.checkWord(cross.toString())) {
-                            return 0;
-                        }
-                    }
-                    crossScore *= crossWordMultiplier;
-                    totalScore += crossScore;
-                }
-            } else {
-                int row = pt.row;
-                int start = pt.col;
-                while (start > 0 && board.getTile(pt.row, start - 1) != null) {
-                    start -= 1;
-                }
-                int end = pt.col;
-                while(end < board.SIZE - 1 && board.getTile(pt.row, end + 1) != null) {
-                    end += 1;
-                }
-                if (end - start >= 1) {
-                    for (int col = start; col <= end; col++) {
-                        Tile t = board.getTile(pt.row, col);
-                        cross.append(t.getLetter());
-                        int letterScore = t.getScore();
+    }
 
-                        int finalCol = col;
-                        boolean newTile = placedTiles.stream().anyMatch(p -> p.row == row && p.col == finalCol);
-                        Board.Premium premium = board.getPremium(row, col);
+    /**
+     * Moves on to the next player's turn.
+     */
+    public void nextTurn() {
+        if (players.isEmpty()) {
+            return;
+        }
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        notifyViews();
+    }
 
-                        if (newTile) {
-                            if (premium == Board.Premium.DOUBLE_LETTER) {
-                                letterScore *= 2;
-                            } else if (premium == Board.Premium.TRIPLE_LETTER) {
-                                letterScore *= 3;
-                            } else if (premium == Board.Premium.DOUBLE_WORD) {
-                                crossWordMultiplier *= 2;
-                            } else if (premium == Board.Premium.TRIPLE_WORD) {
-                                crossWordMultiplier *= 3;
-                            }
-                        }
-                        crossScore += letterScore;
-                    }
-                }
-                if (cross.length() > 1) {
-                    if (!acceptedWords.checkWord(cross.toString())) {
-                        return 0;
-                    }
+    /**
+     * Determines whether the game is over: a player has used all of their tiles with the bag empty, or every
+     * player has passed twice in a row.
+     * @return true if the game is over.
+     */
+    public boolean isGameOver() {
+        if (players.isEmpty()) {
+            return false;
+        }
+        if (consecutivePasses >= 2 * players.size()) {
+            return true;
+        }
+        if (bag.isEmpty()) {
+            for (Player player : players) {
+                if (player.emptyHand()) {
+                    return true;
                 }
-                crossScore *= crossWordMultiplier;
-                totalScore += crossScore;
             }
         }
-        return totalScore;
+        return false;
+    }
+
+    /**
+     * Returns the score for tiles placed on the gameboard.
+     * @param placedTiles An ArrayList of tiles placed on the board during the turn, already committed to it
+     * @return An integer containing the total score, including premium tile multipliers, or 0 if the tiles
+     *         don't make a valid play
+     */
+    public int scorePlacedTiles(ArrayList<PlacedTile> placedTiles) {
+        return MoveEvaluator.evaluateCommitted(board.snapshot(), placedTiles, getDictionary()).score();
     }
 
     //a bit of duplicated code, but I think it's necessary
@@ -350,8 +347,8 @@ public class GameModel implements Serializable {
      * @param fileName the name of the file where the game data will be stored
      */
     public void saveGame(String fileName) {
-        try(ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(fileName))) {
-            out.writeObject(this);
+        try(OutputStream out = new BufferedOutputStream(new FileOutputStream(fileName))) {
+            GameCodec.write(this, out);
             test = 1;
             System.out.println("Game saved successfully!");
         } catch(Exception e){
@@ -365,8 +362,8 @@ public class GameModel implements Serializable {
      * @return the gamemodel which was loaded from the data.
      */
     public static GameModel loadGame(String fileName) {
-        try(ObjectInputStream in = new ObjectInputStream(new FileInputStream(fileName))) {
-            GameModel loaded = (GameModel) in.readObject();
+        try(InputStream in = new BufferedInputStream(new FileInputStream(fileName))) {
+            GameModel loaded = GameCodec.read(in);
             System.out.println("Game loaded successfully!");
             return loaded;
         } catch (Exception e){
@@ -0,0 +1,82 @@
+import java.util.*;
+
+/**
+ * GameResult holds the outcome of a finished game and statistics about how it was played, as
+ * collected by a HeadlessGame.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class GameResult {
+    /** The names of the players, in turn order. */
+    public final List<String> names;
+    /** The final score of each player, in turn order. */
+    public final int[] scores;
+    /** The number of turns played. */
+    public final int turns;
+    /** The number of turns where tiles were placed. */
+    public final int plays;
+    /** The number of plays which used all seven tiles of a hand. */
+    public final int bingos;
+    /** How long each turn took, in nanoseconds, in the order they were played. */
+    public final long[] turnNanos;
+
+    /**
+     * Constructs a new GameResult.
+     * @param names The names of the players, in turn order.
+     * @param scores The final score of each player.
+     * @param turns The number of turns played.
+     * @param plays The number of turns where tiles were placed.
+     * @param bingos The number of plays which used seven tiles.
+     * @param turnNanos How long each turn took, in nanoseconds.
+     */
+    public GameResult(List<String> names, int[] scores, int turns, int plays, int bingos, long[] turnNanos) {
+        this.names = names;
+        this.scores = scores;
+        this.turns = turns;
+        this.plays = plays;
+        this.bingos = bingos;
+        this.turnNanos = turnNanos;
+    }
+
+    /**
+     * Returns the index of the winning player, the first in turn order if the top score is tied.
+     * @return The index of the player with the highest score.
+     */
+    public int winner() {
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the total time spent on turns.
+     * @return The total time in nanoseconds.
+     */
+    public long totalNanos() {
+        long total = 0;
+        for (long nanos : turnNanos) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    /**
+     * Returns a one line summary of the game.
+     * @return The names and scores of the players, with the turn statistics.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < names.size(); i++) {
+            sb.append(names.get(i)).append(": ").append(scores[i]).append(", ");
+        }
+        sb.append("turns: ").append(turns).append(", plays: ").append(plays).append(", bingos: ").append(bingos);
+        sb.append(", time: ").append(totalNanos() / 1_000_000).append("ms");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,70 @@
+import java.util.*;
+
+/**
+ * A GameSummary is the outline of a saved game (who played, their scores and how far the game got),
+ * read straight from its encoded bytes without building a GameModel. It is used to scan through a
+ * GameArchive quickly.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class GameSummary {
+    /** The id of the game in its archive. */
+    public final long id;
+    /** The names of the players, in turn order. */
+    public final List<String> names;
+    /** The score of each player, in turn order. */
+    public final int[] scores;
+    /** Whether each player is an AI player, in turn order. */
+    public final boolean[] ai;
+    /** The number of tiles on the board. */
+    public final int tilesOnBoard;
+    /** The number of tiles left in the bag. */
+    public final int tilesInBag;
+
+    /**
+     * Constructs a new GameSummary.
+     * @param id The id of the game in its archive.
+     * @param names The names of the players.
+     * @param scores The score of each player.
+     * @param ai Whether each player is an AI player.
+     * @param tilesOnBoard The number of tiles on the board.
+     * @param tilesInBag The number of tiles left in the bag.
+     */
+    public GameSummary(long id, List<String> names, int[] scores, boolean[] ai, int tilesOnBoard, int tilesInBag) {
+        this.id = id;
+        this.names = names;
+        this.scores = scores;
+        this.ai = ai;
+        this.tilesOnBoard = tilesOnBoard;
+        this.tilesInBag = tilesInBag;
+    }
+
+    /**
+     * Returns the index of the player with the highest score, the first in turn order if it is tied.
+     * @return The index of the leading player, or -1 if there are no players.
+     */
+    public int leader() {
+        int best = scores.length == 0 ? -1 : 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns a one line summary of the game.
+     * @return The id, the names and scores of the players, and the tiles played.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Game ").append(id).append(": ");
+        for (int i = 0; i < names.size(); i++) {
+            sb.append(names.get(i)).append(": ").append(scores[i]).append(", ");
+        }
+        sb.append("tiles on board: ").append(tilesOnBoard).append(", tiles in bag: ").append(tilesInBag);
+        return sb.toString();
+    }
+}
@@ -8,4 +8,5 @@ public interface GameView {
     void update(GameModel model);
     void showError(String error);
     char promptBlankLetter();
+    void showGameOver(GameModel model);
 }
@@ -0,0 +1,160 @@
+import java.util.*;
+
+/**
+ * A HeadlessGame plays a full game of scrabble between AI players without a window, using the
+ * GameModel directly and a TurnScheduler to play the turns. It does not use AWT or Swing, so
+ * games can be simulated on a server with no display. Plain (human) Players have nobody to play
+ * for them, so they pass every turn.
+ *
+ * @author Taylor Brumwell
+ * @author Cole Galway
+ * @version 12/05/2025
+ */
+public class HeadlessGame {
+    /** The most turns a game is played for, in case it would never end. */
+    public static final int MAX_TURNS = 1000;
+
+    /** The game being played. */
+    private final GameModel model;
+    /** The XML file of the board layout, or null for the standard board. */
+    private String boardFile;
+    /** The seed for drawing tiles, or null to draw them randomly. */
+    private Long seed;
+
+    /**
+     * Constructs a new HeadlessGame which displays nothing.
+     */
+    public HeadlessGame() {
+        this(new NullGameView());
+    }
+
+    /**
+     * Constructs a new HeadlessGame which updates a view as it is played.
+     * @param view The view to update after each turn.
+     */
+    public HeadlessGame(GameView view) {
+        model = new GameModel();
+        model.addView(view);
+    }
+
+    /**
+     * Adds an AI player into the game.
+     * @param name The name of the AI player.
+     * @return The AI player added.
+     */
+    public AIPlayer addAIPlayer(String name) {
+        AIPlayer ai = new AIPlayer(name, model);
+        model.addPlayer(ai);
+        return ai;
+    }
+
+    /**
+     * Adds a player into the game.
+     * @param player The player to be added.
+     */
+    public void addPlayer(Player player) {
+        model.addPlayer(player);
+    }
+
+    /**
+     * Sets the board layout the game is played on.
+     * @param boardFile The XML file of the layout (see BoardLoader), or null for the standard board.
+     */
+    public void setBoardFile(String boardFile) {
+        this.boardFile = boardFile;
+    }
+
+    /**
+     * Sets the seed the tiles are drawn with, so the game can be repeated exactly.
+     * @param seed The seed for the bag of tiles.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the game being played.
+     * @return The GameModel of the game.
+     */
+    public GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * Deals the hands and plays the game until it is over or MAX_TURNS turns have been played.
+     * @return The result of the game.
+     */
+    public GameResult play() {
+        return play(MAX_TURNS);
+    }
+
+    /**
+     * Deals the hands and plays the game until it is over or a number of turns have been played.
+     * @param maxTurns The most turns to play.
+     * @return The result of the game.
+     */
+    public GameResult play(int maxTurns) {
+        model.setupGame(seed == null ? new TileBag() : new TileBag(seed));
+        if (boardFile == null) {
+            model.board.setDefaultBoard();
+        } else {
+            BoardLoader.importBoardXML(model.board, boardFile);
+        }
+
+        ArrayList<Long> turnNanos = new ArrayList<>();
+        int[] plays = {0};
+        int[] bingos = {0};
+        TurnScheduler scheduler = new TurnScheduler(model);
+        scheduler.addListener((player, move, score, nanos) -> {
+            turnNanos.add(nanos);
+            if (move != null) {
+                plays[0]++;
+                if (move.placedTiles.size() == 7) {
+                    bingos[0]++;
+                }
+            }
+        });
+
+        while (turnNanos.size() < maxTurns && !model.isGameOver()) {
+            if (!scheduler.playAITurn()) {
+                //nobody plays for a plain player, so they pass
+                long start = System.nanoTime();
+                model.passTurn();
+                turnNanos.add(System.nanoTime() - start);
+                model.nextTurn();
+            }
+        }
+
+        ArrayList<String> names = new ArrayList<>();
+        int[] scores = new int[model.players.size()];
+        for (int i = 0; i < model.players.size(); i++) {
+            names.add(model.players.get(i).getName());
+            scores[i] = model.players.get(i).getScore();
+        }
+        long[] nanos = new long[turnNanos.size()];
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] = turnNanos.get(i);
+        }
+        return new GameResult(names, scores, nanos.length, plays[0], bingos[0], nanos);
+    }
+
+    /**
+     * Plays games between AI players and prints the result of each.
+     * @param args The number of games (default 1), the number of AI players (default 2), and optionally the
+     *             XML file of the board layout.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        String boardFile = args.length > 2 ? args[2] : null;
+
+        for (int g = 1; g <= games; g++) {
+            HeadlessGame game = new HeadlessGame();
+            for (int p = 1; p <= players; p++) {
+                game.addAIPlayer("AIPlayer" + p);
+            }
+            game.setBoardFile(boardFile);
+            System.out.println("Game " + g + ": " + game.play());
+        }
+    }
+}
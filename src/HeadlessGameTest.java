@@ -0,0 +1,40 @@
+/**
+ * Test for the HeadlessGame class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeadlessGameTest {
+
+    @Test
+    @DisplayName("Testing a headless game is played to the end")
+    void play() {
+        HeadlessGame game = new HeadlessGame();
+        game.addAIPlayer("AI1").setParallelism(1);
+        game.addAIPlayer("AI2").setParallelism(1);
+        GameResult result = game.play();
+
+        org.junit.jupiter.api.Assertions.assertTrue(game.getModel().isGameOver());
+        org.junit.jupiter.api.Assertions.assertEquals(2, result.scores.length);
+        org.junit.jupiter.api.Assertions.assertEquals(result.turns, result.turnNanos.length);
+        org.junit.jupiter.api.Assertions.assertTrue(result.plays > 0);
+        org.junit.jupiter.api.Assertions.assertEquals(game.getModel().players.get(result.winner()).getScore(),
+                Math.max(result.scores[0], result.scores[1]));
+    }
+
+    @Test
+    @DisplayName("Testing plain players pass in a headless game")
+    void plainPlayerPasses() {
+        HeadlessGame game = new HeadlessGame();
+        game.addPlayer(new Player("p1"));
+        game.addAIPlayer("AI2").setParallelism(1);
+        GameResult result = game.play(10);
+
+        org.junit.jupiter.api.Assertions.assertEquals(10, result.turns);
+        org.junit.jupiter.api.Assertions.assertEquals(0, result.scores[0]);
+    }
+}
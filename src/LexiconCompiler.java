@@ -0,0 +1,127 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * A LexiconCompiler turns a word list (one word per line, as read by Dictionary) into a lexicon image: the
+ * sorted words, their word graph and their anagram index, laid out exactly as they are used. A Dictionary maps
+ * the image straight into memory instead of parsing the list, so loading the words takes the same time, and no
+ * more heap, however many words there are.
+ *
+ * The image is kept next to the word list, with IMAGE_SUFFIX added to its name, and records the length and
+ * modification time of the list it was compiled from, so an image which is out of date is ignored.
+ *
+ * Image (little-endian): int magic, int version, long word list length, long word list modification time,
+ * int word count, int pool size, then an int offset into the pool for each word and one for the end of the pool,
+ * the pool of lowercase ASCII words in sorted order (padded to a multiple of four bytes), the word graph as
+ * written by Dawg.writeTo, then the anagram index as written by AnagramIndex.writeTo, numbering the words in
+ * sorted order. Images of an older version are compiled again.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class LexiconCompiler {
+    /** The first four bytes of an image ("LEXI"). */
+    public static final int MAGIC = 0x4C455849;
+    /** The version of the format written. */
+    public static final int VERSION = 3;
+    /** The size of the image's header. */
+    public static final int HEADER_SIZE = 32;
+    /** The byte order of an image. */
+    public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    /** Added to a word list's file name for its image. */
+    public static final String IMAGE_SUFFIX = ".lex";
+
+    private LexiconCompiler() {
+    }
+
+    /**
+     * Returns the file the image of a word list is kept in.
+     * @param wordFile The word list.
+     * @return The image file.
+     */
+    public static String imageFile(String wordFile) {
+        return wordFile + IMAGE_SUFFIX;
+    }
+
+    /**
+     * Compiles a word list into an image.
+     * @param wordFile The word list, one word per line.
+     * @param imageFile Where to write the image.
+     * @return The number of words compiled.
+     * @throws IOException If the word list can't be read or the image can't be written.
+     */
+    public static int compile(String wordFile, String imageFile) throws IOException {
+        File source = new File(wordFile);
+        long length = source.length();
+        long modified = source.lastModified(); //taken before reading, so a list changed while it is read looks out of date
+        Dictionary dictionary = new Dictionary();
+        dictionary.readWords(wordFile);
+        write(dictionary, length, modified, imageFile);
+        return dictionary.size();
+    }
+
+    /**
+     * Writes the image of a dictionary's words. The image is written to a temporary file which then replaces
+     * imageFile, so games loading the image at the same time never see it half written.
+     * @param dictionary The words to write.
+     * @param sourceLength The length of the word list the words were read from.
+     * @param sourceModified The modification time of the word list.
+     * @param imageFile Where to write the image.
+     * @throws IOException If the image can't be written.
+     */
+    static void write(Dictionary dictionary, long sourceLength, long sourceModified, String imageFile) throws IOException {
+        String[] words = new String[dictionary.size()];
+        int poolSize = 0;
+        for (int i = 0; i < words.length; i++) {
+            words[i] = dictionary.getWord(i);
+            poolSize += words[i].length();
+        }
+        Arrays.sort(words);
+        Dawg dawg = dictionary.getDawg();
+        AnagramIndex anagrams = AnagramIndex.build(words, i -> words[i]);
+
+        int paddedPool = (poolSize + 3) & ~3;
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + (words.length + 1) * Integer.BYTES + paddedPool + dawg.byteSize() + anagrams.byteSize()).order(ORDER);
+        out.putInt(MAGIC).putInt(VERSION).putLong(sourceLength).putLong(sourceModified).putInt(words.length).putInt(poolSize);
+        int offset = 0;
+        for (String word : words) {
+            out.putInt(offset);
+            offset += word.length();
+        }
+        out.putInt(offset);
+        for (String word : words) {
+            out.put(word.getBytes(StandardCharsets.US_ASCII));
+        }
+        out.position(out.position() + paddedPool - poolSize);
+        dawg.writeTo(out);
+        anagrams.writeTo(out);
+
+        Path target = Paths.get(imageFile).toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, out.array());
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Compiles a word list into its image.
+     * @param args The word list (scrabble_acceptedwords.csv by default), then the image file (the word list's
+     *             name with IMAGE_SUFFIX added, where Dictionary looks for it, by default).
+     */
+    public static void main(String[] args) throws IOException {
+        String wordFile = args.length > 0 ? args[0] : "scrabble_acceptedwords.csv";
+        String imageFile = args.length > 1 ? args[1] : imageFile(wordFile);
+        int words = compile(wordFile, imageFile);
+        System.out.println("Compiled " + words + " words from " + wordFile + " to " + imageFile);
+    }
+}
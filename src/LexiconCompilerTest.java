@@ -0,0 +1,94 @@
+/**
+ * Test for the LexiconCompiler class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+class LexiconCompilerTest {
+
+    /**
+     * Writes a word list to a temporary file.
+     */
+    private File wordList(String... words) throws IOException {
+        File file = File.createTempFile("words", ".csv");
+        file.deleteOnExit();
+        new File(LexiconCompiler.imageFile(file.getPath())).deleteOnExit();
+        Files.write(file.toPath(), List.of(words));
+        return file;
+    }
+
+    @Test
+    @DisplayName("Testing a compiled word list is mapped with the same words and word graph")
+    void compile() throws IOException {
+        File file = wordList("cats", "Cat", "bat", "", "cat", "it's");
+        org.junit.jupiter.api.Assertions.assertEquals(4, LexiconCompiler.compile(file.getPath(), LexiconCompiler.imageFile(file.getPath())));
+
+        Dictionary d = new Dictionary();
+        d.load(file.getPath());
+        org.junit.jupiter.api.Assertions.assertTrue(d.isMapped());
+        org.junit.jupiter.api.Assertions.assertEquals(4, d.size());
+        org.junit.jupiter.api.Assertions.assertEquals(List.of("bat", "cat", "cats", "it's"), List.of(d.getWord(0), d.getWord(1), d.getWord(2), d.getWord(3)));
+        org.junit.jupiter.api.Assertions.assertTrue(d.checkWord("CATS"));
+        org.junit.jupiter.api.Assertions.assertTrue(d.checkWord("It's"));
+        org.junit.jupiter.api.Assertions.assertFalse(d.checkWord("ca"));
+        org.junit.jupiter.api.Assertions.assertFalse(d.checkWord("its"));
+
+        Dictionary read = new Dictionary();
+        read.readWords(file.getPath());
+        Dawg dawg = d.getDawg();
+        org.junit.jupiter.api.Assertions.assertEquals(read.getDawg().nodeCount(), dawg.nodeCount());
+        org.junit.jupiter.api.Assertions.assertEquals(3, dawg.wordCount());
+        org.junit.jupiter.api.Assertions.assertTrue(dawg.contains("bat"));
+        org.junit.jupiter.api.Assertions.assertFalse(dawg.contains("ba"));
+    }
+
+    @Test
+    @DisplayName("Testing loading a word list compiles its image, which is compiled again once the list changes")
+    void outOfDate() throws IOException {
+        File file = wordList("cat", "bat");
+        Dictionary first = new Dictionary();
+        first.load(file.getPath());
+        org.junit.jupiter.api.Assertions.assertFalse(first.isMapped());
+        org.junit.jupiter.api.Assertions.assertTrue(new File(LexiconCompiler.imageFile(file.getPath())).isFile());
+
+        Files.write(file.toPath(), List.of("cat", "bat", "rat"));
+        Dictionary second = new Dictionary();
+        second.load(file.getPath());
+        org.junit.jupiter.api.Assertions.assertFalse(second.isMapped());
+        org.junit.jupiter.api.Assertions.assertTrue(second.checkWord("rat"));
+
+        Dictionary third = new Dictionary();
+        third.load(file.getPath());
+        org.junit.jupiter.api.Assertions.assertTrue(third.isMapped());
+        org.junit.jupiter.api.Assertions.assertEquals(3, third.size());
+    }
+
+    @Test
+    @DisplayName("Testing words added to a mapped dictionary are kept alongside the image")
+    void addWord() throws IOException {
+        File file = wordList("cat", "bat");
+        LexiconCompiler.compile(file.getPath(), LexiconCompiler.imageFile(file.getPath()));
+        Dictionary d = new Dictionary();
+        d.load(file.getPath());
+        Dawg mapped = d.getDawg();
+
+        d.addWord("BAT");
+        org.junit.jupiter.api.Assertions.assertEquals(2, d.size());
+        org.junit.jupiter.api.Assertions.assertSame(mapped, d.getDawg());
+
+        d.addWord("rat");
+        org.junit.jupiter.api.Assertions.assertEquals(3, d.size());
+        org.junit.jupiter.api.Assertions.assertEquals("rat", d.getWord(2));
+        org.junit.jupiter.api.Assertions.assertTrue(d.checkWord("rat"));
+        org.junit.jupiter.api.Assertions.assertTrue(d.getDawg().contains("rat"));
+        org.junit.jupiter.api.Assertions.assertTrue(d.getDawg().contains("cat"));
+    }
+}
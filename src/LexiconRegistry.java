@@ -0,0 +1,70 @@
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A LexiconRegistry loads each word list once and shares it between every game in the program. The
+ * dictionaries it hands out are frozen, so any number of games and AI searches can use one at the same
+ * time, and running many games at once costs no more memory or loading time than running one.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public final class LexiconRegistry {
+    /** The standard word list, which games use unless they are given another dictionary. */
+    public static final String STANDARD_WORDS = "scrabble_acceptedwords.csv";
+
+    /** The loaded word lists, by normalized absolute path. */
+    private static final ConcurrentMap<String, Dictionary> LOADED = new ConcurrentHashMap<>();
+
+    private LexiconRegistry() {
+    }
+
+    /**
+     * Returns the dictionary of a word list, loading it the first time it is asked for. Threads asking for a
+     * list while it is being loaded wait for it rather than loading it again.
+     * @param file The word list, one word per line.
+     * @return The frozen dictionary of the list.
+     */
+    public static Dictionary get(String file) {
+        return LOADED.computeIfAbsent(key(file), LexiconRegistry::load);
+    }
+
+    /**
+     * Returns the dictionary of the standard word list.
+     * @return The frozen dictionary of STANDARD_WORDS.
+     */
+    public static Dictionary standard() {
+        return get(STANDARD_WORDS);
+    }
+
+    /**
+     * Returns whether a word list has already been loaded.
+     * @param file The word list.
+     * @return true if get returns without loading it.
+     */
+    public static boolean isLoaded(String file) {
+        return LOADED.containsKey(key(file));
+    }
+
+    /**
+     * Returns the key a word list is loaded under, the same however its path is written.
+     * @param file The word list.
+     * @return Its normalized absolute path.
+     */
+    private static String key(String file) {
+        return Paths.get(file).toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Loads and freezes a word list.
+     * @param file The word list.
+     * @return The frozen dictionary.
+     */
+    private static Dictionary load(String file) {
+        Dictionary dictionary = new Dictionary();
+        dictionary.load(file);
+        dictionary.freeze();
+        return dictionary;
+    }
+}
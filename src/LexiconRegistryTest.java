@@ -0,0 +1,56 @@
+/**
+ * Test for the LexiconRegistry class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+class LexiconRegistryTest {
+
+    @Test
+    @DisplayName("Testing a word list is loaded once and shared, however it is named")
+    void shared() throws IOException {
+        File file = File.createTempFile("words", ".csv");
+        file.deleteOnExit();
+        new File(LexiconCompiler.imageFile(file.getAbsolutePath())).deleteOnExit();
+        Files.write(file.toPath(), List.of("cat", "bat"));
+
+        org.junit.jupiter.api.Assertions.assertFalse(LexiconRegistry.isLoaded(file.getPath()));
+        Dictionary dictionary = LexiconRegistry.get(file.getPath());
+        org.junit.jupiter.api.Assertions.assertTrue(LexiconRegistry.isLoaded(file.getPath()));
+        org.junit.jupiter.api.Assertions.assertSame(dictionary, LexiconRegistry.get(file.getAbsolutePath()));
+        org.junit.jupiter.api.Assertions.assertSame(dictionary, LexiconRegistry.get(file.getParent() + File.separator + "." + File.separator + file.getName()));
+        org.junit.jupiter.api.Assertions.assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("Testing games started at the same time share one frozen dictionary")
+    void concurrentGames() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<GameModel>> games = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                games.add(executor.submit(() -> new GameModel()));
+            }
+            Dictionary dictionary = LexiconRegistry.standard();
+            for (Future<GameModel> game : games) {
+                org.junit.jupiter.api.Assertions.assertSame(dictionary, game.get().getDictionary());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Dictionary dictionary = LexiconRegistry.standard();
+        org.junit.jupiter.api.Assertions.assertTrue(dictionary.isFrozen());
+        org.junit.jupiter.api.Assertions.assertTrue(dictionary.checkWord("cat"));
+        org.junit.jupiter.api.Assertions.assertThrows(UnsupportedOperationException.class, () -> dictionary.addWord("qqqq"));
+        org.junit.jupiter.api.Assertions.assertThrows(UnsupportedOperationException.class, () -> dictionary.load(LexiconRegistry.STANDARD_WORDS));
+    }
+}
@@ -0,0 +1,188 @@
+import java.util.*;
+
+/**
+ * MoveEvaluator checks and scores a play in one pass: it walks the main word once and each cross word once,
+ * checking each against the dictionary and adding up its score as it goes. The same evaluation is used to
+ * accept a player's play and to score it once it is committed, so the human and AI paths agree.
+ *
+ * The squares a play covers and the runs of tiles around it are found from the board's occupancy masks, so
+ * nothing is copied or rebuilt. Only words of two or more letters count as words: a single tile forms its
+ * main word along whichever line it has a neighbour on (the row, if both).
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public final class MoveEvaluator {
+    /** The number of squares along each side of the board. */
+    private static final int SIZE = Board.SIZE;
+
+    /**
+     * The outcome of evaluating a play.
+     * @param placedTiles The tiles of the play.
+     * @param valid Whether the play is legal.
+     * @param words The words the play forms, main word first, or the words checked before it was found illegal.
+     * @param score The score of the play, or 0 if it isn't legal.
+     */
+    public record Result(List<PlacedTile> placedTiles, boolean valid, List<String> words, int score) { }
+
+    private MoveEvaluator() {
+    }
+
+    /**
+     * Evaluates tiles about to be placed on a board: they must be on empty squares in one line with no gaps,
+     * touch the tiles already on the board (or cover the centre on the first turn), and make only words in the
+     * dictionary.
+     * @param board A snapshot of the board before the play.
+     * @param placedTiles The tiles placed during the turn.
+     * @param dictionary The dictionary of accepted words.
+     * @return The result of the play.
+     */
+    public static Result evaluate(BoardSnapshot board, List<PlacedTile> placedTiles, Dictionary dictionary) {
+        return evaluate(board, placedTiles, dictionary, false);
+    }
+
+    /**
+     * Evaluates tiles which have already been committed to a board, to score them.
+     * @param board A snapshot of the board after the play.
+     * @param placedTiles The tiles placed during the turn.
+     * @param dictionary The dictionary of accepted words.
+     * @return The result of the play.
+     */
+    public static Result evaluateCommitted(BoardSnapshot board, List<PlacedTile> placedTiles, Dictionary dictionary) {
+        return evaluate(board, placedTiles, dictionary, true);
+    }
+
+    /**
+     * Evaluates a play.
+     * @param board A snapshot of the board.
+     * @param placedTiles The tiles placed during the turn.
+     * @param dictionary The dictionary of accepted words.
+     * @param committed Whether the tiles are already on the board.
+     * @return The result of the play.
+     */
+    private static Result evaluate(BoardSnapshot board, List<PlacedTile> placedTiles, Dictionary dictionary, boolean committed) {
+        List<String> words = new ArrayList<>();
+        if (placedTiles.isEmpty()) {
+            return new Result(placedTiles, false, words, 0);
+        }
+        PlacedTile first = placedTiles.getFirst();
+        boolean sameRow = true;
+        boolean sameCol = true;
+        for (PlacedTile pt : placedTiles) {
+            if (pt.row < 0 || pt.row >= SIZE || pt.col < 0 || pt.col >= SIZE) {
+                return new Result(placedTiles, false, words, 0);
+            }
+            sameRow &= pt.row == first.row;
+            sameCol &= pt.col == first.col;
+        }
+        boolean horizontal;
+        if (sameRow && sameCol) {
+            horizontal = hasNeighbour(board, first.row, first.col, true) || !hasNeighbour(board, first.row, first.col, false);
+        } else if (sameRow || sameCol) {
+            horizontal = sameRow;
+        } else {
+            return new Result(placedTiles, false, words, 0);
+        }
+
+        //the new tiles by their position along the line
+        int lineIndex = horizontal ? first.row : first.col;
+        Tile[] placed = new Tile[SIZE];
+        int placedMask = 0;
+        for (PlacedTile pt : placedTiles) {
+            int pos = horizontal ? pt.col : pt.row;
+            if (placed[pos] != null || (!committed && board.getTile(pt.row, pt.col) != null)) {
+                return new Result(placedTiles, false, words, 0); //two tiles on one square, or on an occupied one
+            }
+            placed[pos] = pt.tile;
+            placedMask |= 1 << pos;
+        }
+
+        //the main word is the run of tiles through the new ones, which must not have gaps
+        int line = board.getLineMask(lineIndex, horizontal) | placedMask;
+        int low = Integer.numberOfTrailingZeros(placedMask);
+        int start = BoardSnapshot.runStart(line, low);
+        int end = BoardSnapshot.runEnd(line, low);
+        if (end < 31 - Integer.numberOfLeadingZeros(placedMask)) {
+            return new Result(placedTiles, false, words, 0);
+        }
+        boolean firstTurn = board.getTileCount() == (committed ? placedTiles.size() : 0);
+        boolean connected = firstTurn ? lineIndex == SIZE / 2 && placed[SIZE / 2] != null : end - start + 1 > placedTiles.size();
+
+        StringBuilder word = new StringBuilder();
+        int wordScore = 0;
+        int wordMultiplier = 1;
+        int crossTotal = 0;
+        for (int pos = start; pos <= end; pos++) {
+            int row = horizontal ? lineIndex : pos;
+            int col = horizontal ? pos : lineIndex;
+            Tile t = placed[pos];
+            if (t == null) {
+                t = board.getTile(row, col);
+                if (t.getLetter() == null) {
+                    return new Result(placedTiles, false, words, 0);
+                }
+                word.append(t.getLetter());
+                wordScore += t.getScore();
+                continue;
+            }
+            if (t.getLetter() == null) {
+                return new Result(placedTiles, false, words, 0); //a blank without a letter
+            }
+            word.append(t.getLetter());
+            Board.Premium premium = board.getPremium(row, col);
+            int letterScore = t.getScore() * MoveGenerator.letterMultiplier(premium);
+            int multiplier = MoveGenerator.wordMultiplier(premium);
+            wordScore += letterScore;
+            wordMultiplier *= multiplier;
+
+            //the cross word through the new tile is made of tiles already on the board, apart from it
+            int across = horizontal ? row : col;
+            int cross = board.getLineMask(horizontal ? col : row, !horizontal) | (1 << across);
+            int crossStart = BoardSnapshot.runStart(cross, across);
+            int crossEnd = BoardSnapshot.runEnd(cross, across);
+            if (crossStart == crossEnd) {
+                continue;
+            }
+            connected = true;
+            StringBuilder crossWord = new StringBuilder();
+            int crossScore = letterScore;
+            for (int p = crossStart; p <= crossEnd; p++) {
+                if (p == across) {
+                    crossWord.append(t.getLetter());
+                    continue;
+                }
+                Tile c = horizontal ? board.getTile(p, col) : board.getTile(row, p);
+                if (c.getLetter() == null) {
+                    return new Result(placedTiles, false, words, 0);
+                }
+                crossWord.append(c.getLetter());
+                crossScore += c.getScore();
+            }
+            String crossString = crossWord.toString();
+            words.add(crossString);
+            if (!dictionary.checkWord(crossString)) {
+                return new Result(placedTiles, false, words, 0);
+            }
+            crossTotal += crossScore * multiplier;
+        }
+        String mainWord = word.toString();
+        words.addFirst(mainWord);
+        if (mainWord.length() < 2 || !connected || !dictionary.checkWord(mainWord)) {
+            return new Result(placedTiles, false, words, 0);
+        }
+        return new Result(placedTiles, true, words, wordScore * wordMultiplier + crossTotal);
+    }
+
+    /**
+     * Determines whether a square has a tile next to it along a line.
+     * @param board The board.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param horizontal Whether to look along the row or down the column.
+     * @return true if either neighbour along the line has a tile.
+     */
+    private static boolean hasNeighbour(BoardSnapshot board, int row, int col, boolean horizontal) {
+        int pos = horizontal ? col : row;
+        return (board.getLineMask(horizontal ? row : col, horizontal) & ((1 << pos >> 1) | (2 << pos))) != 0;
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Test for the MoveEvaluator class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class MoveEvaluatorTest {
+
+    @Test
+    @DisplayName("Testing the main word and cross words are found, checked and scored together")
+    void crossWords() {
+        Dictionary dictionary = TestFixtures.words("cat", "at", "ta", "ate");
+        BoardSnapshot board = TestFixtures.board(TestFixtures.word("CAT", 7, 7, true)).snapshot();
+
+        //a T under the A of "cat" makes "at" down
+        MoveEvaluator.Result result = MoveEvaluator.evaluate(board, TestFixtures.word("T", 8, 8, true), dictionary);
+        org.junit.jupiter.api.Assertions.assertTrue(result.valid());
+        org.junit.jupiter.api.Assertions.assertEquals(List.of("AT"), result.words());
+        org.junit.jupiter.api.Assertions.assertEquals(1 + MoveGenerator.letterMultiplier(board.getPremium(8, 8)), result.score());
+
+        //"ate" down through the T of "cat" makes only the main word
+        ArrayList<PlacedTile> ate = TestFixtures.word("A", 6, 9, true);
+        ate.addAll(TestFixtures.word("E", 8, 9, true));
+        result = MoveEvaluator.evaluate(board, ate, dictionary);
+        org.junit.jupiter.api.Assertions.assertTrue(result.valid());
+        org.junit.jupiter.api.Assertions.assertEquals(List.of("ATE"), result.words());
+
+        //"ta" across under "ca" makes the cross words "ct" and "aa", which aren't words
+        result = MoveEvaluator.evaluate(board, TestFixtures.word("TA", 8, 7, true), dictionary);
+        org.junit.jupiter.api.Assertions.assertFalse(result.valid());
+        org.junit.jupiter.api.Assertions.assertEquals(0, result.score());
+    }
+
+    @Test
+    @DisplayName("Testing a single tile is scored once, along the line it makes a word on")
+    void singleTile() {
+        Dictionary dictionary = TestFixtures.words("at", "a", "t");
+        Board board = TestFixtures.board(TestFixtures.word("A", 7, 7, true));
+        board.commitTiles(TestFixtures.word("A", 6, 6, true)); //a tile the new one only touches diagonally
+
+        ArrayList<PlacedTile> t = TestFixtures.word("T", 8, 7, true);
+        MoveEvaluator.Result result = MoveEvaluator.evaluate(board.snapshot(), t, dictionary);
+        org.junit.jupiter.api.Assertions.assertTrue(result.valid());
+        org.junit.jupiter.api.Assertions.assertEquals(List.of("AT"), result.words());
+        org.junit.jupiter.api.Assertions.assertEquals(2, result.score());
+
+        board.commitTiles(t);
+        org.junit.jupiter.api.Assertions.assertEquals(result, MoveEvaluator.evaluateCommitted(board.snapshot(), t, dictionary));
+    }
+
+    @Test
+    @DisplayName("Testing badly placed tiles are rejected")
+    void placement() {
+        Dictionary dictionary = TestFixtures.words("cat", "at", "a");
+        BoardSnapshot empty = new Board().snapshot();
+        org.junit.jupiter.api.Assertions.assertTrue(MoveEvaluator.evaluate(empty, TestFixtures.word("CAT", 7, 6, true), dictionary).valid());
+        //the first play has to cover the centre, and be a word of two or more letters
+        org.junit.jupiter.api.Assertions.assertFalse(MoveEvaluator.evaluate(empty, TestFixtures.word("CAT", 6, 6, true), dictionary).valid());
+        org.junit.jupiter.api.Assertions.assertFalse(MoveEvaluator.evaluate(empty, TestFixtures.word("A", 7, 7, true), dictionary).valid());
+
+        BoardSnapshot board = TestFixtures.board(TestFixtures.word("CAT", 7, 7, true)).snapshot();
+        //on an occupied square, with a gap, not in a line, and not touching the board
+        org.junit.jupiter.api.Assertions.assertFalse(MoveEvaluator.evaluate(board, TestFixtures.word("AT", 7, 8, true), dictionary).valid());
+        ArrayList<PlacedTile> gap = TestFixtures.word("C", 3, 3, true);
+        gap.addAll(TestFixtures.word("T", 3, 5, true));
+        org.junit.jupiter.api.Assertions.assertFalse(MoveEvaluator.evaluate(board, gap, dictionary).valid());
+        ArrayList<PlacedTile> diagonal = TestFixtures.word("A", 8, 6, true);
+        diagonal.addAll(TestFixtures.word("T", 9, 7, true));
+        org.junit.jupiter.api.Assertions.assertFalse(MoveEvaluator.evaluate(board, diagonal, dictionary).valid());
+        org.junit.jupiter.api.Assertions.assertFalse(MoveEvaluator.evaluate(board, TestFixtures.word("AT", 2, 2, true), dictionary).valid());
+        org.junit.jupiter.api.Assertions.assertFalse(MoveEvaluator.evaluate(board, new ArrayList<>(), dictionary).valid());
+    }
+
+    @Test
+    @DisplayName("Testing premiums only count under new tiles")
+    void premiums() {
+        Dictionary dictionary = TestFixtures.words("cat", "cats");
+        Board board = TestFixtures.board(TestFixtures.word("CAT", 7, 7, true));
+        //the centre's double word under the C of "cat" was used up when it was played
+        ArrayList<PlacedTile> s = TestFixtures.word("S", 7, 10, true);
+        MoveEvaluator.Result result = MoveEvaluator.evaluate(board.snapshot(), s, dictionary);
+        org.junit.jupiter.api.Assertions.assertTrue(result.valid());
+        org.junit.jupiter.api.Assertions.assertEquals(List.of("CATS"), result.words());
+        org.junit.jupiter.api.Assertions.assertEquals(3 + 1 + 1 + MoveGenerator.letterMultiplier(board.getPremium(7, 10)), result.score());
+    }
+}
@@ -0,0 +1,490 @@
+import java.io.Serial;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * A MoveGenerator finds every legal play for a hand of tiles on a snapshot of the board, using the
+ * Appel-Jacobson algorithm. For each anchor square on a line, it builds the part of the word left
+ * of the anchor and then extends it to the right, following the word graph one letter at a time,
+ * so only letters that can still make a word are tried. The perpendicular words are never rebuilt:
+ * each square's allowed letters come from the board's cross-check cache, so checking them is one AND.
+ *
+ * Every legal play is produced exactly once. Blank tiles in the hand are not played, as the AI
+ * does not assign letters to blanks.
+ *
+ * With a TranspositionTable, the best plays of each position (board and hand) are remembered by hash, so
+ * a position searched before is answered at once.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class MoveGenerator {
+    /** A snapshot of the board being played on, so the board can change during the search. */
+    private final BoardSnapshot board;
+    /** The word graph of the accepted words. */
+    private final Dawg dawg;
+    /** Set when the search should stop as soon as possible. */
+    private volatile boolean cancelled;
+    /** The table of positions already searched, or null to search every position. */
+    private TranspositionTable table;
+
+    /**
+     * Constructs a new MoveGenerator for the tiles committed to a board. The board itself is never changed,
+     * so the search can run on another thread while the board is played on: if the board's cross-checks are
+     * for another dictionary, the search uses its own snapshot of the board with the given dictionary.
+     * @param board The board being played on.
+     * @param dictionary The dictionary of accepted words.
+     */
+    public MoveGenerator(Board board, Dictionary dictionary) {
+        BoardSnapshot snapshot = board.snapshot();
+        this.board = snapshot.getDictionary() == dictionary ? snapshot : snapshot.withDictionary(dictionary);
+        this.dawg = dictionary.getDawg();
+    }
+
+    /**
+     * Constructs a new MoveGenerator for a snapshot of a board, such as one with a play being tried out.
+     * @param board The snapshot being played on.
+     * @param dictionary The dictionary of accepted words, which the snapshot's cross-checks must use.
+     */
+    public MoveGenerator(BoardSnapshot board, Dictionary dictionary) {
+        this.board = board;
+        this.dawg = dictionary.getDawg();
+    }
+
+    /**
+     * Sets the table generateBest remembers its results in.
+     * @param table The table, or null to search every position.
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Stops a search running on another thread. The search throws a CancellationException
+     * at the next anchor it reaches.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Finds every legal play on the board for a hand of tiles.
+     * @param hand The tiles that can be played.
+     * @return A list of every legal Move, each with its score.
+     */
+    public List<Move> generate(List<Tile> hand) {
+        List<Move> moves = new ArrayList<>();
+        for (int line = 0; line < Board.SIZE; line++) {
+            generateLine(line, true, hand, moves::add);
+        }
+        for (int line = 0; line < Board.SIZE; line++) {
+            generateLine(line, false, hand, moves::add);
+        }
+        return moves;
+    }
+
+    /**
+     * Finds the highest scoring legal plays, splitting the rows and columns between the threads of a pool.
+     * Each line is searched independently, and the best plays of each part are merged, so the result is the
+     * same as searching every line in order on one thread (plays with equal scores keep that order).
+     * @param hand The tiles that can be played.
+     * @param count The number of plays wanted.
+     * @param pool The pool to search in, or null to search on the calling thread.
+     * @return Up to count Moves, highest score first.
+     * @throws CancellationException if the search is cancelled.
+     */
+    public List<Move> generateBest(List<Tile> hand, int count, ForkJoinPool pool) {
+        long key = board.getHash() ^ Zobrist.mix(Zobrist.rack(hand));
+        if (table != null) {
+            List<Move> cached = rebind(table.get(key, dawg, count), hand);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        LineTask task = new LineTask(hand, count, 0, 2 * Board.SIZE);
+        List<Move> best = pool == null ? task.compute() : pool.invoke(task);
+        if (table != null) {
+            table.put(key, dawg, count, best);
+        }
+        return best;
+    }
+
+    /**
+     * Copies remembered plays onto the tiles of a hand, taking the tiles of each letter from the end of the hand
+     * as the search does, since a player removes the tiles of a play from their hand by identity.
+     * @param moves The remembered plays, or null.
+     * @param hand The hand the plays are made from.
+     * @return The plays with the hand's tiles, or null if there were none or the hand doesn't hold their tiles.
+     */
+    private static List<Move> rebind(List<Move> moves, List<Tile> hand) {
+        if (moves == null) {
+            return null;
+        }
+        int[] codes = new int[hand.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = GameCodec.encodeTile(hand.get(i));
+        }
+        boolean[] used = new boolean[codes.length];
+        List<Move> bound = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            Arrays.fill(used, false);
+            ArrayList<PlacedTile> tiles = new ArrayList<>(move.placedTiles.size());
+            for (PlacedTile p : move.placedTiles) {
+                int code = GameCodec.encodeTile(p.tile);
+                int i = codes.length - 1;
+                while (i >= 0 && (used[i] || codes[i] != code)) {
+                    i--;
+                }
+                if (i < 0) {
+                    return null; //two positions with the same hash
+                }
+                used[i] = true;
+                tiles.add(new PlacedTile(p.row, p.col, hand.get(i)));
+            }
+            bound.add(new Move(tiles, move.score));
+        }
+        return bound;
+    }
+
+    /**
+     * Searches a range of lines for the best plays, splitting the range in half until it is a single line.
+     * Lines 0 to SIZE - 1 are the rows, and SIZE to 2 * SIZE - 1 are the columns. Tasks are only ever run
+     * in this program, never serialized, so the hand is transient.
+     */
+    private class LineTask extends RecursiveTask<List<Move>> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Tile> hand;
+        private final int count;
+        private final int from;
+        private final int to;
+
+        LineTask(List<Tile> hand, int count, int from, int to) {
+            this.hand = hand;
+            this.count = count;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Move> compute() {
+            if (to - from == 1) {
+                List<Move> best = new ArrayList<>();
+                generateLine(from % Board.SIZE, from < Board.SIZE, hand, move -> keepBest(best, move, count));
+                return best;
+            }
+            int mid = (from + to) >>> 1;
+            LineTask left = new LineTask(hand, count, from, mid);
+            LineTask right = new LineTask(hand, count, mid, to);
+            if (inForkJoinPool()) {
+                right.fork();
+                List<Move> best = left.compute();
+                for (Move move : right.join()) {
+                    keepBest(best, move, count);
+                }
+                return best;
+            }
+            List<Move> best = left.compute();
+            for (Move move : right.compute()) {
+                keepBest(best, move, count);
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Adds a move to a list of the best moves if it scores high enough, keeping the list sorted
+     * by score (a new move goes after any with the same score) and no longer than count.
+     * @param best The best moves so far, highest score first.
+     * @param move The move to add.
+     * @param count The most moves to keep.
+     */
+    private static void keepBest(List<Move> best, Move move, int count) {
+        int i = best.size();
+        while (i > 0 && best.get(i - 1).score < move.score) {
+            i--;
+        }
+        if (i < count) {
+            best.add(i, move);
+            if (best.size() > count) {
+                best.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Finds every legal play whose main word lies along one line.
+     * @param lineIndex The index of the row (horizontal) or column (vertical).
+     * @param horizontal Whether the line is a row or not.
+     * @param hand The tiles that can be played.
+     * @param action Called once for each legal Move found.
+     * @throws CancellationException if the search is cancelled.
+     */
+    public void generateLine(int lineIndex, boolean horizontal, List<Tile> hand, Consumer<Move> action) {
+        List<Integer> anchors = board.findAnchors(lineIndex, horizontal);
+        if (anchors.isEmpty()) {
+            return;
+        }
+        new LineSearch(lineIndex, horizontal, new Rack(hand), action).run(anchors);
+    }
+
+    /**
+     * The hand being played from, grouped by letter so a tile can be taken and put back in constant time.
+     */
+    private static class Rack {
+        /** The number of tiles of each letter left. */
+        final int[] counts = new int[Dawg.LETTERS];
+        /** The tiles of each letter, the first counts[letter] of which are still available. */
+        final Tile[][] tiles = new Tile[Dawg.LETTERS][];
+        /** A mask of the letters with at least one tile left. */
+        int mask;
+        /** The number of tiles left. */
+        int size;
+
+        Rack(List<Tile> hand) {
+            for (Tile t : hand) {
+                int letter = letterOf(t);
+                if (letter >= 0) {
+                    counts[letter]++;
+                }
+            }
+            for (int letter = 0; letter < Dawg.LETTERS; letter++) {
+                tiles[letter] = new Tile[counts[letter]];
+                counts[letter] = 0;
+            }
+            for (Tile t : hand) {
+                int letter = letterOf(t);
+                if (letter >= 0) {
+                    tiles[letter][counts[letter]++] = t;
+                    mask |= 1 << letter;
+                    size++;
+                }
+            }
+        }
+
+        Tile take(int letter) {
+            Tile t = tiles[letter][--counts[letter]];
+            if (counts[letter] == 0) {
+                mask &= ~(1 << letter);
+            }
+            size--;
+            return t;
+        }
+
+        void putBack(int letter) {
+            counts[letter]++;
+            mask |= 1 << letter;
+            size++;
+        }
+
+        private static int letterOf(Tile t) {
+            String letter = t.getLetter();
+            if (letter == null || letter.length() != 1) {
+                return -1;
+            }
+            return Dawg.letterIndex(letter.charAt(0));
+        }
+    }
+
+    /**
+     * The search along a single line. Positions are measured along the line, so rows and columns are
+     * handled by the same code.
+     */
+    private class LineSearch {
+        final int lineIndex;
+        final boolean horizontal;
+        final Rack rack;
+        final Consumer<Move> action;
+
+        /** The letter of the committed tile at each position, or -1 if the square is empty. */
+        final int[] letters = new int[Board.SIZE];
+        /** The letters that make a valid perpendicular word at each empty position, from the board's cache. */
+        final int[] crossMasks = new int[Board.SIZE];
+        /** The total tile score of the perpendicular word at each empty position, or -1 if there isn't one. */
+        final int[] crossScores = new int[Board.SIZE];
+        /** Whether each position is an anchor. */
+        final boolean[] anchor = new boolean[Board.SIZE];
+
+        /** The rack tile placed at each position in the current partial play. */
+        final Tile[] placed = new Tile[Board.SIZE];
+        /** The rack tiles of the left part, in reading order, while it is being built. */
+        final Tile[] leftTiles = new Tile[Board.SIZE];
+        /** The position of the anchor currently being extended from. */
+        int currentAnchor;
+
+        LineSearch(int lineIndex, boolean horizontal, Rack rack, Consumer<Move> action) {
+            this.lineIndex = lineIndex;
+            this.horizontal = horizontal;
+            this.rack = rack;
+            this.action = action;
+            for (int i = 0; i < Board.SIZE; i++) {
+                int row = horizontal ? lineIndex : i;
+                int col = horizontal ? i : lineIndex;
+                letters[i] = board.getLetterIndex(row, col);
+                crossMasks[i] = board.getCrossCheck(row, col, horizontal);
+                crossScores[i] = board.getCrossScore(row, col, horizontal);
+            }
+        }
+
+        void run(List<Integer> anchors) {
+            for (int a : anchors) {
+                anchor[a] = true;
+            }
+            for (int a : anchors) {
+                if (cancelled) {
+                    throw new CancellationException("Move search cancelled");
+                }
+                currentAnchor = a;
+                if (a > 0 && letters[a - 1] >= 0) {
+                    //the left part is the word already on the board before the anchor
+                    int start = a - 1;
+                    while (start > 0 && letters[start - 1] >= 0) {
+                        start--;
+                    }
+                    int node = dawg.root();
+                    for (int i = start; i < a && node != Dawg.NONE; i++) {
+                        node = dawg.child(node, letters[i]);
+                    }
+                    if (node != Dawg.NONE) {
+                        extendRight(start, a, node);
+                    }
+                } else {
+                    //the left part is built from the hand over the empty, unconstrained squares before the anchor
+                    int limit = 0;
+                    while (limit < a && letters[a - limit - 1] < 0 && !anchor[a - limit - 1]) {
+                        limit++;
+                    }
+                    leftPart(0, dawg.root(), Math.min(limit, rack.size - 1));
+                }
+            }
+        }
+
+        /**
+         * Tries every left part of up to limit tiles, extending each to the right from the anchor.
+         * @param length The number of tiles in the left part so far.
+         * @param node The graph node reached by the left part.
+         * @param limit The number of tiles the left part can still grow by.
+         */
+        void leftPart(int length, int node, int limit) {
+            int start = currentAnchor - length;
+            for (int i = 0; i < length; i++) {
+                placed[start + i] = leftTiles[i];
+            }
+            extendRight(start, currentAnchor, node);
+            if (limit <= 0) {
+                return;
+            }
+            int options = dawg.letters(node) & rack.mask;
+            while (options != 0) {
+                int letter = Integer.numberOfTrailingZeros(options);
+                options &= options - 1;
+                leftTiles[length] = rack.take(letter);
+                leftPart(length + 1, dawg.child(node, letter), limit - 1);
+                rack.putBack(letter);
+            }
+        }
+
+        /**
+         * Extends a partial word to the right, one square at a time.
+         * @param start The position of the first letter of the word.
+         * @param pos The position of the next square.
+         * @param node The graph node reached by the letters so far.
+         */
+        void extendRight(int start, int pos, int node) {
+            if (pos == Board.SIZE || letters[pos] < 0) {
+                if (pos > currentAnchor && dawg.isTerminal(node) && pos - start >= 2) {
+                    record(start, pos);
+                }
+                if (pos == Board.SIZE) {
+                    return;
+                }
+                int options = dawg.letters(node) & rack.mask & crossMasks[pos];
+                while (options != 0) {
+                    int letter = Integer.numberOfTrailingZeros(options);
+                    options &= options - 1;
+                    placed[pos] = rack.take(letter);
+                    extendRight(start, pos + 1, dawg.child(node, letter));
+                    rack.putBack(letter);
+                    placed[pos] = null;
+                }
+            } else {
+                int next = dawg.child(node, letters[pos]);
+                if (next != Dawg.NONE) {
+                    extendRight(start, pos + 1, next);
+                }
+            }
+        }
+
+        /**
+         * Scores and reports a legal play covering positions start to end - 1.
+         */
+        void record(int start, int end) {
+            ArrayList<PlacedTile> tiles = new ArrayList<>();
+            int wordScore = 0;
+            int wordMultiplier = 1;
+            int crossTotal = 0;
+            for (int i = start; i < end; i++) {
+                if (letters[i] >= 0) {
+                    wordScore += tileAt(i).getScore();
+                    continue;
+                }
+                Tile t = placed[i];
+                int row = horizontal ? lineIndex : i;
+                int col = horizontal ? i : lineIndex;
+                tiles.add(new PlacedTile(row, col, t));
+
+                Board.Premium premium = board.getPremium(row, col);
+                int letterScore = t.getScore() * letterMultiplier(premium);
+                int multiplier = wordMultiplier(premium);
+                wordScore += letterScore;
+                wordMultiplier *= multiplier;
+                if (crossScores[i] >= 0) {
+                    crossTotal += (crossScores[i] + letterScore) * multiplier;
+                }
+            }
+            if (!horizontal && tiles.size() == 1) {
+                PlacedTile only = tiles.getFirst();
+                if ((board.getLineMask(only.row, true) & ((1 << only.col >> 1) | (2 << only.col))) != 0) {
+                    return; //a single tile with a horizontal word is already found along its row
+                }
+            }
+            action.accept(new Move(tiles, wordScore * wordMultiplier + crossTotal));
+        }
+
+        Tile tileAt(int pos) {
+            return horizontal ? board.getTile(lineIndex, pos) : board.getTile(pos, lineIndex);
+        }
+    }
+
+    /**
+     * Returns the letter multiplier of a premium square.
+     * @param premium The premium type of the square.
+     * @return 2 or 3 for letter premiums, otherwise 1.
+     */
+    static int letterMultiplier(Board.Premium premium) {
+        if (premium == Board.Premium.DOUBLE_LETTER) {
+            return 2;
+        } else if (premium == Board.Premium.TRIPLE_LETTER) {
+            return 3;
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the word multiplier of a premium square.
+     * @param premium The premium type of the square.
+     * @return 2 or 3 for word premiums, otherwise 1.
+     */
+    static int wordMultiplier(Board.Premium premium) {
+        if (premium == Board.Premium.DOUBLE_WORD) {
+            return 2;
+        } else if (premium == Board.Premium.TRIPLE_WORD) {
+            return 3;
+        }
+        return 1;
+    }
+}
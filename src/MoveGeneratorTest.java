@@ -0,0 +1,80 @@
+/**
+ * Test for the MoveGenerator class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+class MoveGeneratorTest {
+
+    @Test
+    @DisplayName("Testing the first play must cover the centre square")
+    void firstMove() {
+        Board board = new Board();
+        List<Move> moves = new MoveGenerator(board, TestFixtures.words("at", "cat")).generate(TestFixtures.hand("CAT"));
+
+        //"at" fits 2 ways and "cat" 3 ways across the centre, in each direction
+        org.junit.jupiter.api.Assertions.assertEquals(10, moves.size());
+        for (Move move : moves) {
+            org.junit.jupiter.api.Assertions.assertTrue(move.placedTiles.stream().anyMatch(pt -> pt.row == 7 && pt.col == 7));
+        }
+    }
+
+    @Test
+    @DisplayName("Testing plays build on the board and are only found once")
+    void extendWord() {
+        Board board = new Board();
+        board.commitTiles(TestFixtures.word("AT", 7, 7, true));
+
+        List<Move> moves = new MoveGenerator(board, TestFixtures.words("at", "cat")).generate(TestFixtures.hand("C"));
+
+        org.junit.jupiter.api.Assertions.assertEquals(1, moves.size());
+        Move move = moves.getFirst();
+        org.junit.jupiter.api.Assertions.assertEquals(7, move.placedTiles.getFirst().row);
+        org.junit.jupiter.api.Assertions.assertEquals(6, move.placedTiles.getFirst().col);
+        org.junit.jupiter.api.Assertions.assertEquals(5, move.score);
+    }
+
+    @Test
+    @DisplayName("Testing perpendicular words are checked")
+    void crossWords() {
+        Board board = new Board();
+        board.commitTiles(TestFixtures.word("AT", 7, 7, true));
+
+        List<Move> moves = new MoveGenerator(board, TestFixtures.words("at", "to")).generate(TestFixtures.hand("TO"));
+        HashSet<String> found = new HashSet<>();
+        for (Move move : moves) {
+            StringBuilder key = new StringBuilder();
+            for (PlacedTile pt : move.placedTiles) {
+                org.junit.jupiter.api.Assertions.assertNull(board.getPermTile(pt.row, pt.col));
+                key.append(pt.tile.getLetter()).append(pt.row).append(",").append(pt.col).append(" ");
+            }
+            found.add(key.toString().trim());
+        }
+        //"to" under "at" makes the perpendicular words "at" and "to"
+        org.junit.jupiter.api.Assertions.assertTrue(found.contains("T8,7 O8,8"));
+        //one square to the right it would make "tt"
+        org.junit.jupiter.api.Assertions.assertFalse(found.contains("T8,8 O8,9"));
+        //"to" down from the T, using the board tile
+        org.junit.jupiter.api.Assertions.assertTrue(found.contains("O8,8"));
+        org.junit.jupiter.api.Assertions.assertEquals(moves.size(), found.size());
+    }
+
+    @Test
+    @DisplayName("Testing a search with its own dictionary leaves the board unchanged")
+    void boardUnchanged() {
+        Board board = new Board();
+        board.commitTiles(TestFixtures.word("AT", 7, 7, true));
+        BoardSnapshot before = board.snapshot();
+
+        List<Move> moves = new MoveGenerator(board, TestFixtures.words("at", "cat")).generate(TestFixtures.hand("C"));
+        org.junit.jupiter.api.Assertions.assertEquals(1, moves.size());
+        org.junit.jupiter.api.Assertions.assertSame(before, board.snapshot());
+    }
+}
@@ -0,0 +1,439 @@
+import java.io.*;
+import java.util.*;
+
+/**
+ * A MoveJournal saves a game as it is played by appending each play, swap and pass to a log, rather than
+ * saving the whole game each time. Every record is the same small size, so saving a turn is a single
+ * append, and the log doubles as the history of the game.
+ *
+ * Restoring replays the log into a fresh GameModel. So that replaying never takes long, a checkpoint
+ * (the whole game, encoded by GameCodec) is written to a second file every CHECKPOINT_INTERVAL records,
+ * and only the records after the last checkpoint are replayed. The encoded game holds the bag's seed and
+ * the number of draws made from it, so the tiles drawn after a checkpoint are drawn again exactly the same
+ * way on replay, and journaling a game doesn't change the tiles it is dealt.
+ *
+ * Journal file: int magic, int version, then RECORD_SIZE byte records:
+ * <pre>
+ * byte type (PLAY, SWAP or PASS), byte player, byte tile count, byte unused
+ * 7 x (byte square (row * 15 + col), byte tile (see GameCodec)), short score
+ * 7 x byte tile: the player's hand afterwards, in order (0 after the last tile), byte unused
+ * </pre>
+ * For a swap, the tile is the one put back into the bag and the square is its index in the hand. For a
+ * pass, the tiles are the hand that was put back, in order. Checkpoint file: for each checkpoint, int
+ * record count, byte player to move, int length, then the encoded game.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class MoveJournal implements Closeable {
+    /** The first four bytes of a journal ("SCRJ"). */
+    public static final int MAGIC = 0x5343524A;
+    /** The version of the format written. */
+    public static final int VERSION = 3;
+    /** The size of the journal header. */
+    public static final int HEADER_SIZE = 8;
+    /** The size of every record. */
+    public static final int RECORD_SIZE = 28;
+    /** The number of records between checkpoints. */
+    public static final int CHECKPOINT_INTERVAL = 32;
+    /** Added to the journal's file name for the checkpoint file. */
+    public static final String CHECKPOINT_SUFFIX = ".ckpt";
+    /** The size of a checkpoint before its encoded game. */
+    private static final int CHECKPOINT_HEADER = 9;
+
+    /** A record of a play. */
+    public static final int PLAY = 1;
+    /** A record of a tile being swapped. */
+    public static final int SWAP = 2;
+    /** A record of a pass. */
+    public static final int PASS = 3;
+
+    /** The most tiles in a record. */
+    private static final int MAX_TILES = 7;
+
+    /**
+     * A Record is one entry of the journal.
+     * @param type PLAY, SWAP or PASS.
+     * @param player The index of the player whose turn it was.
+     * @param squares The square (row * 15 + col) of each tile placed, the hand index of a swapped tile, or -1.
+     * @param tiles The tiles of the record, encoded by GameCodec.
+     * @param score The score of a play.
+     * @param hand The player's hand afterwards, in order, encoded by GameCodec.
+     */
+    public record Record(int type, int player, int[] squares, int[] tiles, int score, int[] hand) { }
+
+    /** The journal file, open for appending. */
+    private final RandomAccessFile journal;
+    /** The checkpoint file, open for appending. */
+    private final RandomAccessFile checkpoints;
+    /** The number of records in the journal. */
+    private int size;
+    /** The number of records when the last checkpoint was taken. */
+    private int checkpointSize;
+    /** The record being written, reused for every append. */
+    private final byte[] buffer = new byte[RECORD_SIZE];
+
+    /**
+     * Opens the files of a journal.
+     */
+    private MoveJournal(String file, boolean create) throws IOException {
+        if (create) {
+            new File(file).delete();
+            new File(file + CHECKPOINT_SUFFIX).delete();
+        }
+        journal = new RandomAccessFile(file, "rw");
+        checkpoints = new RandomAccessFile(file + CHECKPOINT_SUFFIX, "rw");
+        if (create) {
+            journal.writeInt(MAGIC);
+            journal.writeInt(VERSION);
+        }
+    }
+
+    /**
+     * Starts journaling a game into a new journal, replacing any journal already in the file. The game
+     * is checkpointed as it is now, and every play, swap and pass made through the GameModel from now
+     * on is appended.
+     * @param model The game to journal.
+     * @param file The journal file.
+     * @return The journal, which the model now writes to.
+     * @throws IOException If the journal can't be written.
+     */
+    public static MoveJournal start(GameModel model, String file) throws IOException {
+        MoveJournal journal = new MoveJournal(file, true);
+        journal.checkpoint(model, model.currentPlayerIndex);
+        model.setJournal(journal);
+        return journal;
+    }
+
+    /**
+     * Restores a game from a journal: the last checkpoint is loaded and the records after it replayed.
+     * The restored game keeps appending to the same journal.
+     * @param file The journal file.
+     * @return The restored game.
+     * @throws IOException If the journal can't be read, or doesn't match the game it was written for.
+     */
+    public static GameModel restore(String file) throws IOException {
+        MoveJournal journal = new MoveJournal(file, false);
+        try {
+            GameModel model = journal.replay();
+            model.setJournal(journal);
+            return model;
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a play.
+     * @param model The game, after the play.
+     * @param player The index of the player who played.
+     * @param placedTiles The tiles placed.
+     * @param score The score of the play.
+     * @throws IOException If the journal can't be written.
+     */
+    public void recordPlay(GameModel model, int player, List<PlacedTile> placedTiles, int score) throws IOException {
+        int[] squares = new int[placedTiles.size()];
+        int[] tiles = new int[placedTiles.size()];
+        for (int i = 0; i < squares.length; i++) {
+            squares[i] = placedTiles.get(i).row * Board.SIZE + placedTiles.get(i).col;
+            tiles[i] = GameCodec.encodeTile(placedTiles.get(i).tile);
+        }
+        append(model, new Record(PLAY, player, squares, tiles, score, encodeHand(model, player)));
+    }
+
+    /**
+     * Appends a swap.
+     * @param model The game, after the swap.
+     * @param player The index of the player who swapped.
+     * @param handIndex The index the tile had in the hand.
+     * @param tile The tile put back into the bag.
+     * @throws IOException If the journal can't be written.
+     */
+    public void recordSwap(GameModel model, int player, int handIndex, Tile tile) throws IOException {
+        append(model, new Record(SWAP, player, new int[] {handIndex}, new int[] {GameCodec.encodeTile(tile)}, 0, encodeHand(model, player)));
+    }
+
+    /**
+     * Appends a pass.
+     * @param model The game, after the pass.
+     * @param player The index of the player who passed.
+     * @param returned The hand which was put back into the bag, in order.
+     * @throws IOException If the journal can't be written.
+     */
+    public void recordPass(GameModel model, int player, List<Tile> returned) throws IOException {
+        int[] squares = new int[returned.size()];
+        int[] tiles = new int[returned.size()];
+        Arrays.fill(squares, -1);
+        for (int i = 0; i < tiles.length; i++) {
+            tiles[i] = GameCodec.encodeTile(returned.get(i));
+        }
+        append(model, new Record(PASS, player, squares, tiles, 0, encodeHand(model, player)));
+    }
+
+    /**
+     * Returns the number of records in the journal.
+     * @return The record count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads every record in the journal, from the start of the game.
+     * @return The records, in the order they were made.
+     * @throws IOException If the journal can't be read.
+     */
+    public List<Record> history() throws IOException {
+        List<Record> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(read(i));
+        }
+        return records;
+    }
+
+    /**
+     * Closes the journal's files.
+     * @throws IOException If the files can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            journal.close();
+        } finally {
+            checkpoints.close();
+        }
+    }
+
+    /**
+     * Writes a record to the end of the journal, then checkpoints the game if it is time to.
+     */
+    private void append(GameModel model, Record record) throws IOException {
+        if (record.tiles.length > MAX_TILES || record.hand.length > MAX_TILES) {
+            throw new IllegalArgumentException("Too many tiles for a record");
+        }
+        Arrays.fill(buffer, (byte) 0);
+        buffer[0] = (byte) record.type;
+        buffer[1] = (byte) record.player;
+        buffer[2] = (byte) record.tiles.length;
+        for (int i = 0; i < record.tiles.length; i++) {
+            buffer[4 + 2 * i] = (byte) record.squares[i];
+            buffer[5 + 2 * i] = (byte) record.tiles[i];
+        }
+        buffer[18] = (byte) (record.score >> 8);
+        buffer[19] = (byte) record.score;
+        for (int i = 0; i < record.hand.length; i++) {
+            buffer[20 + i] = (byte) record.hand[i];
+        }
+        journal.seek(HEADER_SIZE + (long) size * RECORD_SIZE);
+        journal.write(buffer);
+        size++;
+
+        if (size - checkpointSize >= CHECKPOINT_INTERVAL) {
+            checkpoint(model, nextPlayer(record, model.players.size()));
+        }
+    }
+
+    /**
+     * Reads a record from the journal.
+     * @param index The number of the record.
+     */
+    private Record read(int index) throws IOException {
+        byte[] bytes = new byte[RECORD_SIZE];
+        journal.seek(HEADER_SIZE + (long) index * RECORD_SIZE);
+        journal.readFully(bytes);
+        int count = bytes[2];
+        if (count < 0 || count > MAX_TILES) {
+            throw new IOException("Bad record " + index);
+        }
+        int[] squares = new int[count];
+        int[] tiles = new int[count];
+        for (int i = 0; i < count; i++) {
+            squares[i] = bytes[4 + 2 * i];
+            if (squares[i] != -1) {
+                squares[i] &= 0xFF;
+            }
+            tiles[i] = bytes[5 + 2 * i] & 0xFF;
+        }
+        int handSize = 0;
+        while (handSize < MAX_TILES && bytes[20 + handSize] != 0) {
+            handSize++;
+        }
+        int[] hand = new int[handSize];
+        for (int i = 0; i < handSize; i++) {
+            hand[i] = bytes[20 + i] & 0xFF;
+        }
+        return new Record(bytes[0], bytes[1] & 0xFF, squares, tiles, (short) ((bytes[18] & 0xFF) << 8 | (bytes[19] & 0xFF)), hand);
+    }
+
+    /**
+     * Writes a checkpoint of the game.
+     * @param model The game.
+     * @param playerToMove The index of the player whose turn it is once the last record is finished.
+     */
+    private void checkpoint(GameModel model, int playerToMove) throws IOException {
+        byte[] game = GameCodec.encode(model);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(CHECKPOINT_HEADER + game.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(size);
+        out.writeByte(playerToMove);
+        out.writeInt(game.length);
+        out.write(game);
+        checkpoints.seek(checkpoints.length());
+        checkpoints.write(bytes.toByteArray());
+        checkpointSize = size;
+    }
+
+    /**
+     * Loads the last checkpoint and replays the records after it.
+     * @return The game as it was after the last record.
+     */
+    private GameModel replay() throws IOException {
+        if (journal.length() < HEADER_SIZE || journal.readInt() != MAGIC) {
+            throw new IOException("Not a move journal");
+        }
+        int version = journal.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported journal version " + version);
+        }
+        size = (int) ((journal.length() - HEADER_SIZE) / RECORD_SIZE);
+        journal.setLength(HEADER_SIZE + (long) size * RECORD_SIZE); //drops a record left half written
+
+        //find the last checkpoint which was completely written, and which the journal reaches
+        long offset = 0;
+        long lastOffset = -1;
+        checkpoints.seek(0);
+        while (offset + CHECKPOINT_HEADER <= checkpoints.length()) {
+            checkpoints.seek(offset);
+            int records = checkpoints.readInt();
+            checkpoints.skipBytes(1);
+            int length = checkpoints.readInt();
+            if (records > size || length < 0 || offset + CHECKPOINT_HEADER + length > checkpoints.length()) {
+                break;
+            }
+            lastOffset = offset;
+            offset += CHECKPOINT_HEADER + length;
+        }
+        if (lastOffset < 0) {
+            throw new IOException("The journal has no checkpoint");
+        }
+        checkpoints.setLength(offset);
+
+        checkpoints.seek(lastOffset);
+        checkpointSize = checkpoints.readInt();
+        int playerToMove = checkpoints.readUnsignedByte();
+        byte[] game = new byte[checkpoints.readInt()];
+        checkpoints.readFully(game);
+        GameModel model = GameCodec.decode(game);
+        if (playerToMove >= Math.max(1, model.players.size())) {
+            throw new IOException("Bad checkpoint");
+        }
+        model.currentPlayerIndex = playerToMove;
+
+        for (int i = checkpointSize; i < size; i++) {
+            apply(model, read(i), i);
+        }
+        return model;
+    }
+
+    /**
+     * Makes the play, swap or pass of a record, the same way it was made when it was recorded.
+     * @param model The game.
+     * @param record The record.
+     * @param index The number of the record, for errors.
+     */
+    private static void apply(GameModel model, Record record, int index) throws IOException {
+        if (record.player >= model.players.size()) {
+            throw new IOException("Record " + index + " is for a player who isn't in the game");
+        }
+        model.currentPlayerIndex = record.player;
+        Player player = model.getCurrentPlayer();
+        switch (record.type) {
+            case PLAY -> {
+                ArrayList<PlacedTile> placed = new ArrayList<>();
+                for (int i = 0; i < record.tiles.length; i++) {
+                    Tile tile = takeFromHand(player, record.tiles[i], index);
+                    if ((record.tiles[i] & GameCodec.BLANK) != 0) {
+                        tile.setLetter(GameCodec.decodeTile(record.tiles[i]).getLetter());
+                    }
+                    int square = record.squares[i];
+                    if (square < 0 || square >= Board.SIZE * Board.SIZE) {
+                        throw new IOException("Bad square in record " + index);
+                    }
+                    placed.add(new PlacedTile(square / Board.SIZE, square % Board.SIZE, tile));
+                }
+                int score = model.completePlay(placed);
+                player.setScore(player.getScore() - score + record.score); //as it was scored when played
+            }
+            case SWAP -> {
+                int handIndex = record.squares[0];
+                if (handIndex < 0 || handIndex >= player.hand.size() || !matches(player.hand.get(handIndex), record.tiles[0])) {
+                    //the hand isn't in the order it was, so swap the first tile like it
+                    player.hand.add(0, takeFromHand(player, record.tiles[0], index));
+                    handIndex = 0;
+                }
+                model.swapTile(handIndex);
+            }
+            case PASS -> model.passTurn();
+            default -> throw new IOException("Bad record type " + record.type + " at record " + index);
+        }
+        arrangeHand(player, record.hand, index);
+        model.currentPlayerIndex = nextPlayer(record, model.players.size());
+    }
+
+    /**
+     * Puts a player's hand in the order it was in when a record was made. Tiles are taken out of the hand
+     * in different places when a play is replayed, so the tiles left may be in a different order.
+     */
+    private static void arrangeHand(Player player, int[] hand, int index) throws IOException {
+        ArrayList<Tile> arranged = new ArrayList<>();
+        for (int code : hand) {
+            arranged.add(takeFromHand(player, code, index));
+        }
+        arranged.addAll(player.hand);
+        player.hand.clear();
+        player.hand.addAll(arranged);
+    }
+
+    /**
+     * Encodes the hand of a player for a record.
+     */
+    private static int[] encodeHand(GameModel model, int player) {
+        List<Tile> hand = model.players.get(player).hand;
+        int[] codes = new int[Math.min(hand.size(), MAX_TILES)];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = GameCodec.encodeTile(hand.get(i));
+        }
+        return codes;
+    }
+
+    /**
+     * Removes the tile a code stands for from a player's hand. Any blank matches a blank's code.
+     */
+    private static Tile takeFromHand(Player player, int code, int index) throws IOException {
+        for (Tile tile : player.hand) {
+            if (matches(tile, code)) {
+                player.removeTile(tile);
+                return tile;
+            }
+        }
+        throw new IOException("Record " + index + " uses a tile which isn't in " + player.getName() + "'s hand");
+    }
+
+    /**
+     * Checks whether a tile in a hand is the tile a code stands for. Any blank matches a blank's code.
+     */
+    private static boolean matches(Tile tile, int code) {
+        if ((code & GameCodec.BLANK) != 0) {
+            return tile.isBlank();
+        }
+        return !tile.isBlank() && GameCodec.encodeTile(tile) == code;
+    }
+
+    /**
+     * Returns whose turn it is after a record: a play or pass ends the turn, a swap doesn't.
+     */
+    private static int nextPlayer(Record record, int players) {
+        return record.type == SWAP ? record.player : (record.player + 1) % Math.max(1, players);
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Test for the MoveJournal class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+class MoveJournalTest {
+
+    /**
+     * Makes a new game between two AI players.
+     */
+    private GameModel newGame(long seed) {
+        HeadlessGame game = new HeadlessGame();
+        game.addAIPlayer("AI1").setParallelism(1);
+        game.addAIPlayer("AI2").setParallelism(1);
+        game.setSeed(seed);
+        game.play(0); //deals the hands without playing a turn
+        return game.getModel();
+    }
+
+    /**
+     * Plays turns, with a swap before every turn and a pass every fifth turn.
+     */
+    private void playTurns(GameModel model, int turns) {
+        TurnScheduler scheduler = new TurnScheduler(model);
+        for (int turn = 0; turn < turns && !model.isGameOver(); turn++) {
+            model.swapTile(turn % 7);
+            if (turn % 5 == 4) {
+                model.passTurn();
+                model.nextTurn();
+            } else {
+                scheduler.playAITurn();
+            }
+        }
+    }
+
+    private File tempJournal() throws IOException {
+        File file = File.createTempFile("journal", ".dat");
+        file.deleteOnExit();
+        new File(file.getPath() + MoveJournal.CHECKPOINT_SUFFIX).deleteOnExit();
+        return file;
+    }
+
+    @Test
+    @DisplayName("Testing a restored game matches the game that was journaled")
+    void restore() throws IOException {
+        File file = tempJournal();
+        GameModel model = newGame(11);
+        MoveJournal journal = MoveJournal.start(model, file.getPath());
+        playTurns(model, 18);
+        journal.close();
+        org.junit.jupiter.api.Assertions.assertTrue(journal.size() > MoveJournal.CHECKPOINT_INTERVAL); //replays from a checkpoint
+
+        GameModel restored = MoveJournal.restore(file.getPath());
+        org.junit.jupiter.api.Assertions.assertArrayEquals(GameCodec.encode(model), GameCodec.encode(restored));
+
+        //the bag draws the same tiles after restoring, so both games carry on the same way
+        for (Player p : restored.players) {
+            ((AIPlayer) p).setParallelism(1);
+        }
+        model.setJournal(null);
+        playTurns(model, 6);
+        playTurns(restored, 6);
+        restored.getJournal().close();
+        org.junit.jupiter.api.Assertions.assertArrayEquals(GameCodec.encode(model), GameCodec.encode(restored));
+    }
+
+    @Test
+    @DisplayName("Testing journaling a game doesn't change the tiles it is dealt")
+    void sameDeal() throws IOException {
+        GameModel journaled = newGame(23);
+        MoveJournal journal = MoveJournal.start(journaled, tempJournal().getPath());
+        playTurns(journaled, 12);
+        journal.close();
+        journaled.setJournal(null);
+
+        GameModel plain = newGame(23);
+        playTurns(plain, 12);
+        org.junit.jupiter.api.Assertions.assertArrayEquals(GameCodec.encode(plain), GameCodec.encode(journaled));
+    }
+
+    @Test
+    @DisplayName("Testing the journal keeps the history of the game")
+    void history() throws IOException {
+        File file = tempJournal();
+        GameModel model = newGame(12);
+        MoveJournal journal = MoveJournal.start(model, file.getPath());
+        model.swapTile(0);
+        model.passTurn();
+        model.nextTurn();
+        new TurnScheduler(model).playAITurn();
+
+        List<MoveJournal.Record> history = journal.history();
+        journal.close();
+        org.junit.jupiter.api.Assertions.assertEquals(3, history.size());
+        org.junit.jupiter.api.Assertions.assertEquals(MoveJournal.SWAP, history.get(0).type());
+        org.junit.jupiter.api.Assertions.assertEquals(MoveJournal.PASS, history.get(1).type());
+        org.junit.jupiter.api.Assertions.assertEquals(7, history.get(1).tiles().length);
+        org.junit.jupiter.api.Assertions.assertEquals(1, history.get(2).player());
+        org.junit.jupiter.api.Assertions.assertEquals(model.players.get(1).getScore(), history.get(2).score());
+        org.junit.jupiter.api.Assertions.assertEquals(MoveJournal.HEADER_SIZE + 3 * MoveJournal.RECORD_SIZE, file.length());
+    }
+
+    @Test
+    @DisplayName("Testing a record left half written is ignored")
+    void truncated() throws IOException {
+        File file = tempJournal();
+        GameModel model = newGame(13);
+        MoveJournal journal = MoveJournal.start(model, file.getPath());
+        playTurns(model, 4);
+        byte[] expected = GameCodec.encode(model);
+        journal.close();
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(new byte[] {MoveJournal.PLAY, 0, 3});
+        }
+
+        GameModel restored = MoveJournal.restore(file.getPath());
+        restored.getJournal().close();
+        org.junit.jupiter.api.Assertions.assertArrayEquals(expected, GameCodec.encode(restored));
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * A GameView which displays nothing, for running games without a window (for example simulations
+ * on a server with no display). Blank tiles are given the letter E, the most common letter.
+ *
+ * @author Cole Galway
+ * @version 12/05/2025
+ */
+public class NullGameView implements GameView {
+    /**
+     * Does nothing, as there is nothing to update.
+     * @param model A GameModel that contains all of the game logic
+     */
+    public void update(GameModel model) {
+    }
+
+    /**
+     * Does nothing, as there is nowhere to show the error.
+     * @param error the error message
+     */
+    public void showError(String error) {
+    }
+
+    /**
+     * Returns the letter for a blank tile without asking anyone.
+     * @return The letter E.
+     */
+    public char promptBlankLetter() {
+        return 'E';
+    }
+
+    /**
+     * Does nothing, as there is nowhere to show the final scores.
+     * @param model A GameModel that contains all of the game logic
+     */
+    public void showGameOver(GameModel model) {
+    }
+}
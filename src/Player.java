@@ -1,4 +1,7 @@
 import java.util.*;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
 
 /**
@@ -25,6 +28,169 @@ public class Player implements Serializable {
      * A List of tiles which is the hand of the player.
      */
     public ArrayList<Tile> hand; //changed to public for testing
+    /**
+     * The evaluation of the play last accepted by playWord, which the game scores the play with.
+     */
+    private transient MoveEvaluator.Result lastPlay;
+
+    /**
+     * A Hand is the list of a player's tiles, which keeps the Zobrist hash of the rack and the number of tiles
+     * of each kind up to date as tiles are added and removed, so the AI can look the rack up without hashing it
+     * every turn and the anagram index reads the letters of the rack without counting them.
+     */
+    public static class Hand extends ArrayList<Tile> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** The sum of the keys of the tiles. */
+        private transient long hash;
+        /** The number of tiles of each kind (see TileBag.kind), with blanks counted as blanks whatever their letter. */
+        private transient int[] counts = new int[TileBag.KINDS];
+        /** The modification count the hash and counts are up to date with. */
+        private transient int hashModCount;
+
+        /**
+         * Constructs an empty Hand.
+         */
+        public Hand() {
+        }
+
+        /**
+         * Constructs a Hand holding some tiles.
+         * @param tiles The tiles.
+         */
+        public Hand(Collection<Tile> tiles) {
+            super(tiles);
+            hashModCount = modCount - 1; //worked out by refresh when first needed
+        }
+
+        /**
+         * Returns the Zobrist hash of the tiles in the hand, which doesn't depend on their order.
+         * @return The sum of the keys of the tiles.
+         */
+        public long getHash() {
+            refresh();
+            return hash;
+        }
+
+        /**
+         * Returns the number of tiles of a kind in the hand.
+         * @param kind 0-25 for the letters A-Z, TileBag.BLANK for blanks.
+         * @return The number of tiles.
+         */
+        public int count(int kind) {
+            refresh();
+            return counts[kind];
+        }
+
+        @Override
+        public boolean add(Tile tile) {
+            boolean current = hashModCount == modCount;
+            super.add(tile);
+            track(current, tile, 1);
+            return true;
+        }
+
+        @Override
+        public void add(int index, Tile tile) {
+            boolean current = hashModCount == modCount;
+            super.add(index, tile);
+            track(current, tile, 1);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Tile> tiles) {
+            for (Tile tile : tiles) {
+                add(tile);
+            }
+            return !tiles.isEmpty();
+        }
+
+        @Override
+        public Tile remove(int index) {
+            boolean current = hashModCount == modCount;
+            Tile tile = super.remove(index);
+            track(current, tile, -1);
+            return tile;
+        }
+
+        @Override
+        public boolean remove(Object tile) {
+            int index = indexOf(tile);
+            if (index < 0) {
+                return false;
+            }
+            remove(index);
+            return true;
+        }
+
+        @Override
+        public Tile set(int index, Tile tile) {
+            Tile old = super.set(index, tile);
+            hash += Zobrist.rackTile(tile) - Zobrist.rackTile(old);
+            counts[kind(old)]--;
+            counts[kind(tile)]++;
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            hash = 0;
+            Arrays.fill(counts, 0);
+            hashModCount = modCount;
+        }
+
+        /**
+         * Marks the hash and counts of a hand read from a stream as out of date, since they aren't saved with it.
+         * @param in The stream the hand is read from.
+         * @throws IOException If the hand can't be read.
+         * @throws ClassNotFoundException If a class of the hand can't be found.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            counts = new int[TileBag.KINDS];
+            hashModCount = modCount - 1;
+        }
+
+        /**
+         * Works the hash and counts out again if the hand was changed in a way not tracked, such as through an
+         * iterator.
+         */
+        private void refresh() {
+            if (hashModCount != modCount) {
+                long sum = 0;
+                Arrays.fill(counts, 0);
+                for (Tile tile : this) {
+                    sum += Zobrist.rackTile(tile);
+                    counts[kind(tile)]++;
+                }
+                hash = sum;
+                hashModCount = modCount;
+            }
+        }
+
+        /**
+         * Updates the hash and counts after a tile is added or removed.
+         * @param current Whether they were up to date before the change.
+         * @param tile The tile.
+         * @param change 1 if the tile was added, -1 if it was removed.
+         */
+        private void track(boolean current, Tile tile, int change) {
+            if (current) {
+                hash += change * Zobrist.rackTile(tile);
+                counts[kind(tile)] += change;
+                hashModCount = modCount;
+            }
+        }
+
+        /**
+         * Returns the kind of a tile, with blanks counted as blanks whatever their letter.
+         */
+        static int kind(Tile tile) {
+            return tile.isBlank() || tile.getLetter() == null ? TileBag.BLANK : TileBag.kind(tile.getLetter());
+        }
+    }
 
     /**
      * Constructs a new Player.
@@ -34,7 +200,28 @@ public class Player implements Serializable {
     public Player(String name) {
         this.name = name;
         score = 0;
-        hand = new ArrayList<>();
+        hand = new Hand();
+    }
+
+    /**
+     * Returns the Zobrist hash of the player's tiles.
+     * @return The hash of the rack.
+     */
+    public long getRackHash() {
+        return Zobrist.rack(hand);
+    }
+
+    /**
+     * Makes sure a player read from a stream saved before hands were hashed has a Hand.
+     * @param in The stream the player is read from.
+     * @throws IOException If the player can't be read.
+     * @throws ClassNotFoundException If a class of the player can't be found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (!(hand instanceof Hand)) {
+            hand = new Hand(hand);
+        }
     }
 
     /**
@@ -122,208 +309,47 @@ public class Player implements Serializable {
      * @return true if the word was valid and the play was completed, false otherwise.
      */
     public boolean playWord(Board board, ArrayList<PlacedTile> placedTiles) {
-        if (placedTiles.isEmpty()) {
+        MoveEvaluator.Result play = evaluatePlay(board.snapshot(), placedTiles);
+        if (!play.valid()) {
             return false;
         }
-        boolean firstTurn = board.isEmpty();
-
-        board.clearTempGrid();
-
-        for (PlacedTile pt : placedTiles) {
-            board.placeTempTile(pt.row, pt.col, pt.tile);
-        }
-
-        boolean sameRow = placedTiles.stream().allMatch(pt -> pt.row == placedTiles.getFirst().row);
-        boolean sameCol = placedTiles.stream().allMatch(pt -> pt.col == placedTiles.getFirst().col);
-
-       if (!sameRow && !sameCol) {
-           clearTemp(board, placedTiles);
-           return false;
-       }
-
-       String mainWord;
-       int startR, endR, startC, endC;
-
-       if (sameRow) {
-           int row = placedTiles.get(0).row;
-           startC = placedTiles.stream().mapToInt(pt -> pt.col).min().getAsInt();
-           endC = placedTiles.stream().mapToInt(pt -> pt.col).max().getAsInt();
-
-           while (startC > 0 && board.getTile(row, startC - 1) != null) {
-               startC -= 1;
-           }
-           while (endC < board.SIZE - 1 && board.getTile(row, endC + 1) != null) {
-               endC += 1;
-           }
-
-           StringBuilder sb = new StringBuilder();
-           for (int c = startC; c <= endC; c++) {
-               Tile t = board.getTile(row, c);
-               if (t == null) {
-                   clearTemp(board, placedTiles);
-                   return false;
-                   }
-               sb.append(t.getLetter());
-               }
-           mainWord = sb.toString();
-           startR = endR = row;
-
-       } else {
-           int col = placedTiles.get(0).col;
-
-           startR = placedTiles.stream().mapToInt(pt -> pt.row).min().getAsInt();
-           endR = placedTiles.stream().mapToInt(pt -> pt.row).max().getAsInt();
-
-           while (startR > 0 && board.getTile(startR - 1, col) != null) {
-               startR -= 1;
-           }
-           while (endR < board.SIZE - 1 && board.getTile(endR + 1, col) != null) {
-               endR += 1;
-           }
-
-           StringBuilder sb = new StringBuilder();
-           for (int r = startR; r <= endR; r++) {
-               Tile t = board.getTile(r, col);
-               if (t == null) {
-                   clearTemp(board, placedTiles);
-                   return false;
-               }
-               sb.append(t.getLetter());
-           }
-           mainWord = sb.toString();
-           startC = endC = col;
-       }
-
-
-        //check dictionary
-        if (!GameModel.acceptedWords.checkWord(mainWord.toLowerCase())) {
-            clearTemp(board, placedTiles);
-            return false;
-        }
-
-
-        //check connected
-        if (!firstTurn) {
-            boolean touchesExisitng = touchesExistingTile(board,placedTiles);
-            if (!touchesExisitng) {
-                clearTemp(board, placedTiles);
-                return false;
-            }
-        } else {
-            boolean touchesCenter = placedTiles.stream().anyMatch(pt -> pt.row == 7 && pt.col == 7);
-            if (!touchesCenter) {
-                clearTemp(board, placedTiles);
-                return false;
-            }
-        }
-
-
-        for (PlacedTile pt: placedTiles) {
-            if (sameRow) {
-                String cross = buildWordVertical(board, pt.row, pt.col);
-                if (cross.length() > 1 && !GameModel.acceptedWords.checkWord(cross.toLowerCase())) {
-                    clearTemp(board, placedTiles);
-                    return false;
-                }
-            } else {
-                String cross = buildWordHorizontal(board, pt.row, pt.col);
-                if (cross.length() > 1 && !GameModel.acceptedWords.checkWord(cross.toLowerCase())) {
-                    clearTemp(board, placedTiles);
-                    return false;
-                }
-            }
-
-        }
-
         board.commitTiles(placedTiles);
-
+        lastPlay = play;
         return true;
     }
 
     /**
-     * Clears the tiles placed on the temporary grid
-     * @param board the gameboard
-     * @param placedTiles An arraylist of tiles that have been placed on the board.
+     * Determines whether tiles placed on a board make a valid play: they are on empty squares in one line with
+     * no gaps, they touch the tiles already on the board (or cover the centre on the first turn), and every
+     * word they make is in the dictionary. The board isn't changed, so plays can be checked on any thread.
+     * @param board A snapshot of the board being played on.
+     * @param placedTiles The tiles placed during the turn.
+     * @return true if the play is valid, false otherwise.
      */
-    private void clearTemp(Board board, ArrayList<PlacedTile> placedTiles) {
-        for (PlacedTile pt: placedTiles) {
-            board.placeTempTile(pt.row, pt.col, null);
-        }
-        board.clearTempGrid();
+    public boolean isValidPlay(BoardSnapshot board, List<PlacedTile> placedTiles) {
+        return evaluatePlay(board, placedTiles).valid();
     }
 
     /**
-     * Determines if the word placed is connected to an existing word
-     * @param board the game board
-     * @param placedTiles An arraylist of tiles that have been placed on the board
-     * @return true if the word is connected to another word, false otherwise
+     * Checks and scores tiles placed on a board in one pass, against the words of the board's dictionary.
+     * @param board A snapshot of the board being played on.
+     * @param placedTiles The tiles placed during the turn.
+     * @return Whether the play is valid, the words it makes and its score.
      */
-    protected boolean touchesExistingTile(Board board, ArrayList<PlacedTile> placedTiles) {
-        for (PlacedTile pt: placedTiles) {
-            int r =  pt.row;
-            int c = pt.col;
-
-            if ((r > 0 && board.getPermTile(r-1, c) != null) || (r < board.SIZE - 1 && board.getPermTile(r+1, c) != null) || (c > 0 && board.getPermTile(r, c-1) != null) || (c < board.SIZE - 1 && board.getPermTile(r, c+1) != null)) {
-                return true;
-            }
-        }
-        return false;
+    public MoveEvaluator.Result evaluatePlay(BoardSnapshot board, List<PlacedTile> placedTiles) {
+        return MoveEvaluator.evaluate(board, placedTiles, board.getDictionary());
     }
 
     /**
-     * Builds the word in the vertical direction based off of placed tiles
-     * @param board the game board
-     * @param row the row where the word was placed
-     * @param col the column where the word was placed
-     * @return A String containing the built word
+     * Returns the evaluation of the play last accepted by playWord, if it was of the given tiles, so the play
+     * is scored without being checked again. The evaluation is only returned once.
+     * @param placedTiles The tiles of the play being completed.
+     * @return The evaluation, or null if the last accepted play was of other tiles.
      */
-    private String buildWordVertical(Board board, int row, int col) {
-        int r1 = row;
-        while (r1 > 0 && board.getTile(r1-1, col) != null) {
-            r1 -= 1;
-        }
-        int r2 = row;
-        while (r2 < board.SIZE - 1 && board.getTile(r2+1, col) != null) {
-            r2 += 1;
-        }
-
-        StringBuilder sb = new StringBuilder();
-        for (int r = r1; r <= r2; r++) {
-            Tile t = board.getTile(r, col);
-            if (t == null) {
-                continue;
-            }
-            sb.append(t.getLetter());
-        }
-        return sb.toString();
-    }
-
-    /**
-     * Builds the word in the horiztonal word based off placed tiles
-     * @param board the game board
-     * @param row the row where the word was placed
-     * @param col the column where the word was placed
-     * @return A String containing the word that was created from placed tiles
-     */
-    private String buildWordHorizontal(Board board, int row, int col) {
-        int c1 = col;
-        while (c1 > 0 && board.getTile(row, c1-1) != null) {
-            c1 -= 1;
-        }
-        int c2 = col;
-        while (c2 < board.SIZE - 1 && board.getTile(row, c2+1) != null) {
-            c2 += 1;
-        }
-
-        StringBuilder sb = new StringBuilder();
-        for (int c = c1; c <= c2; c++) {
-            Tile t =  board.getTile(row, c);
-            if (t == null) {
-                continue;
-            }
-            sb.append(t.getLetter());
-        }
-        return sb.toString();
+    MoveEvaluator.Result takeLastPlay(List<PlacedTile> placedTiles) {
+        MoveEvaluator.Result play = lastPlay;
+        lastPlay = null;
+        return play != null && play.placedTiles() == placedTiles ? play : null;
     }
 
     /**
@@ -345,6 +371,21 @@ public class Player implements Serializable {
         return hand.remove(index);
     }
 
+    /**
+     * Removes a specific tile from the player's hand
+     * @param t The tile to be removed
+     * @return true if the tile was in the player's hand
+     */
+    public boolean removeTile(Tile t) {
+        for (int i = 0; i < hand.size(); i++) {
+            if (hand.get(i) == t) {
+                hand.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Adds a tile to the player's hand
      * @param t the tile to be added.
@@ -89,4 +89,37 @@ class PlayerTest {
         org.junit.jupiter.api.Assertions.assertEquals(p1.hand.size(), 7);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName ("Testing the hand counts its letters as tiles come and go")
+    public void counts() {
+        Player p1 = new Player("Cole");
+        Player.Hand hand = (Player.Hand) p1.hand;
+        Tile a = new Tile("A", 1);
+        Tile blank = new Tile("-", 0);
+        p1.addTile(a);
+        p1.addTile(new Tile("A", 1));
+        p1.addTile(blank);
+        org.junit.jupiter.api.Assertions.assertEquals(2, hand.count(TileBag.kind("A")));
+        org.junit.jupiter.api.Assertions.assertEquals(1, hand.count(TileBag.BLANK));
+        org.junit.jupiter.api.Assertions.assertEquals(0, hand.count(TileBag.kind("B")));
+
+        p1.removeTile(a);
+        org.junit.jupiter.api.Assertions.assertEquals(1, hand.count(TileBag.kind("A")));
+        //a blank given a letter still counts as a blank
+        blank.setLetter("B");
+        p1.hand.removeIf(t -> t != blank); //not tracked, so the counts are worked out again
+        org.junit.jupiter.api.Assertions.assertEquals(0, hand.count(TileBag.kind("A")));
+        org.junit.jupiter.api.Assertions.assertEquals(0, hand.count(TileBag.kind("B")));
+        org.junit.jupiter.api.Assertions.assertEquals(1, hand.count(TileBag.BLANK));
+    }
+
+    @Test
+    @DisplayName ("Testing a blank in the hand still reads as a blank")
+    public void blankInHand() {
+        Player p1 = new Player("Cole");
+        Tile blank = new Tile("-", 0);
+        p1.addTile(blank);
+        p1.getRackHash();
+        org.junit.jupiter.api.Assertions.assertEquals("-", p1.hand.getFirst().getLetter());
+    }
+}
@@ -0,0 +1,68 @@
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A StartupLoader loads what a game needs (the word list, with its word graph, and the custom board
+ * layouts) on background threads as soon as the program starts, so the loading happens while the player
+ * is still answering the setup dialogs. Each piece is only waited for when it is first needed.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class StartupLoader {
+    /** The custom board layouts offered when starting a new game. */
+    public static final List<String> LAYOUT_FILES = List.of("custom_board1.xml", "custom_board2.xml");
+
+    /** The dictionary being loaded. */
+    private final CompletableFuture<Dictionary> dictionary;
+    /** The board layouts being read, by file name. */
+    private final Map<String, CompletableFuture<Board.Premium[][]>> layouts = new HashMap<>();
+
+    /**
+     * Starts loading a word list and board layouts in the background.
+     * @param wordFile The word list.
+     * @param layoutFiles The XML board files.
+     */
+    public StartupLoader(String wordFile, List<String> layoutFiles) {
+        dictionary = CompletableFuture.supplyAsync(() -> LexiconRegistry.get(wordFile)); //built with its word graph
+        for (String file : layoutFiles) {
+            layouts.put(file, CompletableFuture.supplyAsync(() -> BoardLoader.readLayout(file)));
+        }
+    }
+
+    /**
+     * Starts loading the standard word list and the custom board layouts in the background.
+     * @return The loader.
+     */
+    public static StartupLoader start() {
+        return new StartupLoader(LexiconRegistry.STANDARD_WORDS, LAYOUT_FILES);
+    }
+
+    /**
+     * Returns the dictionary, waiting for it to finish loading if it hasn't yet.
+     * @return The loaded dictionary.
+     */
+    public Dictionary getDictionary() {
+        return dictionary.join();
+    }
+
+    /**
+     * Returns whether the dictionary has finished loading.
+     * @return true if getDictionary returns without waiting.
+     */
+    public boolean isDictionaryLoaded() {
+        return dictionary.isDone();
+    }
+
+    /**
+     * Returns a board layout, waiting for it to be read if it hasn't been yet. A layout which wasn't
+     * started in the background is read now.
+     * @param file The XML board file.
+     * @return The premium type of each square, by row then column, or null if the file couldn't be read. The
+     *         layout is shared, so it must not be changed; Board.setLayout copies it.
+     */
+    public Board.Premium[][] getLayout(String file) {
+        CompletableFuture<Board.Premium[][]> layout = layouts.get(file);
+        return layout == null ? BoardLoader.readLayout(file) : layout.join();
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Test for the StartupLoader class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+class StartupLoaderTest {
+
+    @Test
+    @DisplayName("Testing the dictionary loaded in the background is the shared one")
+    void dictionary() {
+        StartupLoader startup = StartupLoader.start();
+        Dictionary dictionary = startup.getDictionary();
+        org.junit.jupiter.api.Assertions.assertTrue(startup.isDictionaryLoaded());
+        org.junit.jupiter.api.Assertions.assertSame(LexiconRegistry.standard(), dictionary);
+        org.junit.jupiter.api.Assertions.assertTrue(dictionary.isFrozen());
+    }
+
+    @Test
+    @DisplayName("Testing board layouts read in the background match the files")
+    void layouts() {
+        StartupLoader startup = new StartupLoader(LexiconRegistry.STANDARD_WORDS, List.of("custom_board1.xml"));
+        Board.Premium[][] layout = startup.getLayout("custom_board1.xml");
+        org.junit.jupiter.api.Assertions.assertArrayEquals(BoardLoader.readLayout("custom_board1.xml"), layout);
+        org.junit.jupiter.api.Assertions.assertEquals(Board.Premium.CENTER, layout[7][7]);
+        org.junit.jupiter.api.Assertions.assertEquals(Board.Premium.NORMAL, layout[0][1]);
+
+        //a layout which wasn't started is read when asked for
+        org.junit.jupiter.api.Assertions.assertArrayEquals(BoardLoader.readLayout("custom_board2.xml"), startup.getLayout("custom_board2.xml"));
+        org.junit.jupiter.api.Assertions.assertNull(startup.getLayout("missing_board.xml"));
+
+        Board board = new Board();
+        board.setLayout(layout);
+        org.junit.jupiter.api.Assertions.assertEquals(Board.Premium.CENTER, board.getPremium(7, 7));
+        board.setPremium(7, 7, Board.Premium.NORMAL);
+        org.junit.jupiter.api.Assertions.assertEquals(Board.Premium.CENTER, layout[7][7]);
+    }
+}
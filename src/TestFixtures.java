@@ -0,0 +1,80 @@
+import java.util.ArrayList;
+
+/**
+ * Builds the dictionaries, hands, plays and boards the tests of the AI and the board are set up with. Tiles
+ * are given their usual scores.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+final class TestFixtures {
+    /** Scores the letters of the tiles made. */
+    private static final TileBag SCORES = new TileBag();
+
+    private TestFixtures() {
+    }
+
+    /**
+     * Makes a dictionary of some words.
+     * @param words The words.
+     * @return The dictionary.
+     */
+    static Dictionary words(String... words) {
+        Dictionary d = new Dictionary();
+        for (String word : words) {
+            d.addWord(word);
+        }
+        return d;
+    }
+
+    /**
+     * Makes a tile.
+     * @param letter The letter of the tile.
+     * @return The tile, with the letter's score.
+     */
+    static Tile tile(char letter) {
+        String s = String.valueOf(letter);
+        return new Tile(s, SCORES.scoreLetter(s));
+    }
+
+    /**
+     * Makes a hand of tiles.
+     * @param letters The letters of the tiles, in order.
+     * @return The hand.
+     */
+    static ArrayList<Tile> hand(String letters) {
+        ArrayList<Tile> hand = new ArrayList<>();
+        for (char c : letters.toCharArray()) {
+            hand.add(tile(c));
+        }
+        return hand;
+    }
+
+    /**
+     * Makes the tiles of a word placed on the board.
+     * @param letters The letters of the word.
+     * @param row The row of the first letter.
+     * @param col The column of the first letter.
+     * @param horizontal true if the word reads across, false if it reads down.
+     * @return The placed tiles, in the order of the word.
+     */
+    static ArrayList<PlacedTile> word(String letters, int row, int col, boolean horizontal) {
+        ArrayList<PlacedTile> tiles = new ArrayList<>();
+        for (int i = 0; i < letters.length(); i++) {
+            tiles.add(new PlacedTile(horizontal ? row : row + i, horizontal ? col + i : col, tile(letters.charAt(i))));
+        }
+        return tiles;
+    }
+
+    /**
+     * Makes a board with the standard premium squares and some tiles already played.
+     * @param tiles The tiles on the board.
+     * @return The board.
+     */
+    static Board board(ArrayList<PlacedTile> tiles) {
+        Board board = new Board();
+        board.setDefaultBoard();
+        board.commitTiles(tiles);
+        return board;
+    }
+}
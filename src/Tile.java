@@ -53,14 +53,12 @@ public class Tile implements Serializable {
     }
 
     /**
-     * Returns if the tile is a blank tile ("-")
+     * Returns if the tile is a blank tile ("-"), whether or not it has been given a letter. Doesn't change the
+     * tile, so hands can hash and count their blanks without losing the "-".
      * @return true if the tile is blank, false otherwise
      */
     public boolean isBlank() {
-        if (this.letter.equals("-")) {
-            isBlank = true;
-        }
-        return isBlank;
+        return isBlank || "-".equals(letter);
     }
 
     /**
@@ -69,7 +67,8 @@ public class Tile implements Serializable {
      * @param letter A string containing the letter which you want to replace
      */
     public void setLetter(String letter) {
-        if (isBlank) {
+        if (isBlank()) {
+            isBlank = true;
             assignedLetter = letter;
         }
         this.letter = letter;
@@ -1,28 +1,88 @@
 import java.util.*;
+import java.util.random.RandomGenerator;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
 
 /**
  * This class models the bag of tiles in a standard scrabble game.
  *
+ * Every bag draws its tiles with its own SplittableRandom, so bags in games running in parallel never share
+ * (or contend for) random numbers, and each takes exactly one random number per tile drawn. A bag is always
+ * seeded, if only with a random seed, and the seed and the number of random numbers taken since are all it
+ * takes to make the same draws again, so they are saved with the game.
+ *
  * @author Cole Galway
  * @author Taylor Brumwell
  * @version 12/05/2025
  */
 public class TileBag implements Serializable {
     /**
-     * A list of characters with each of the tiles and the number of them inside the bag.
+     * The number of kinds of tile: the letters A to Z, then the blank.
+     */
+    public static final int KINDS = 27;
+    /**
+     * The kind of a blank tile.
      */
-    public final List <String> TILES = new ArrayList<>();
+    public static final int BLANK = KINDS - 1;
     /**
-     * A random variable from the Random class.
+     * The most random numbers a restored bag may have taken. A game only takes one per tile drawn, so even
+     * with a swap or pass every turn it takes a few thousand, and restoring this many takes milliseconds.
      */
-    private final Random RAND = new Random();
+    public static final long MAX_DRAWS = 1 << 20;
+    /**
+     * The letter of each kind of tile, with "-" for a blank.
+     */
+    private static final String[] LETTERS = new String[KINDS];
+
+    static {
+        for (int kind = 0; kind < BLANK; kind++) {
+            LETTERS[kind] = String.valueOf((char) ('A' + kind));
+        }
+        LETTERS[BLANK] = "-";
+    }
+
+    /**
+     * The number of tiles of each kind inside the bag.
+     */
+    private final int[] counts = new int[KINDS];
+    /**
+     * The number of tiles inside the bag.
+     */
+    private int size;
+    /**
+     * A list of the letters of the tiles inside the bag, in alphabetical order with blanks last. It is a view
+     * of the counts of each kind, so adding a letter puts it with the others of its kind.
+     */
+    public final List <String> TILES = new TileList(this);
+    /**
+     * The seed the tiles are drawn with.
+     */
+    private long seed;
+    /**
+     * The number of random numbers taken since the bag was seeded.
+     */
+    private long draws;
+    /**
+     * The random numbers the tiles are drawn with, which are made again from the seed and draws when read.
+     */
+    private transient RandomGenerator rand;
 
     /**
      * Constructs a new TileBag, taking each letter from the English alphabet and assigning the number of
-     * times it appears in a standard scrabble game.
+     * times it appears in a standard scrabble game. The bag is given a random seed.
      */
     public TileBag() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new TileBag whose tiles are drawn in an order fixed by a seed, so the same seed always
+     * deals the same tiles (for repeatable simulations).
+     * @param seed The seed for drawing tiles.
+     */
+    public TileBag(long seed) {
         addTiles("E", 12);
         addTiles("A", 9);
         addTiles("I", 9);
@@ -49,6 +109,18 @@ public class TileBag implements Serializable {
         addTiles("Q", 1);
         addTiles("Z", 1);
         addTiles("-", 2);
+        reseed(seed);
+    }
+
+    /**
+     * Constructs a new TileBag holding the same tiles as another.
+     * @param other The bag to copy the tiles of.
+     * @param seed The seed for drawing tiles.
+     */
+    private TileBag(TileBag other, long seed) {
+        System.arraycopy(other.counts, 0, counts, 0, KINDS);
+        size = other.size;
+        reseed(seed);
     }
 
     /**
@@ -57,22 +129,24 @@ public class TileBag implements Serializable {
      * @param count An integer representing the amount of each specific character is inside the bag.
      */
     public void addTiles(String letter, int count) {
-        for (int i = 0; i < count; i++) {
-            TILES.add(letter);
-        }
+        counts[kind(letter)] += count;
+        size += count;
     }
 
     /**
-     * Returns the Tile which has been drawn from the bag.
+     * Returns the Tile which has been drawn from the bag. Each tile in the bag is equally likely, so a kind of
+     * tile is drawn in proportion to how many of it are left.
      * @return Tile which has been selected at random from the bag
      */
     public Tile drawTile() {
-        if (TILES.isEmpty()) {
+        if (size == 0) {
             return null; //no tiles are left in the bag
         }
-        String letter = TILES.remove(RAND.nextInt(TILES.size()));
-        int score = scoreLetter(letter);
-        return new Tile(String.valueOf(letter), score);
+        int kind = kindAt(nextIndex(size));
+        counts[kind]--;
+        size--;
+        String letter = LETTERS[kind];
+        return new Tile(letter, scoreLetter(letter));
     }
 
     /**
@@ -80,17 +154,146 @@ public class TileBag implements Serializable {
      * @return true if the bag is empty, false if the bag is not empty.
      */
     public boolean isEmpty() {
-        return TILES.isEmpty();
+        return size == 0;
     }
 
     public int  size() {
-        return TILES.size();
+        return size;
+    }
+
+    /**
+     * Returns the number of tiles of a letter inside the bag.
+     * @param letter The letter, or "-" for blanks.
+     * @return The number of tiles.
+     */
+    public int count(String letter) {
+        return counts[kind(letter)];
+    }
+
+    /**
+     * Returns the number of tiles of each kind inside the bag.
+     * @return The counts, indexed by kind (0-25 for A-Z, BLANK for blanks).
+     */
+    public int[] getCounts() {
+        return counts.clone();
     }
 
     public void addTile(Tile t) {
-        if (t != null && t.getLetter() != null) {
-            TILES.add(t.getLetter());
+        if (t != null && t.isBlank()) {
+            addTiles("-", 1); //a blank goes back as a blank, whatever letter it was given
+        } else if (t != null && t.getLetter() != null) {
+            addTiles(t.getLetter(), 1);
+        }
+    }
+
+    /**
+     * Starts drawing tiles with a new seed, so the draws that follow only depend on what is in the bag and the
+     * seed.
+     * @param seed The seed for drawing tiles.
+     */
+    private void reseed(long seed) {
+        this.seed = seed;
+        draws = 0;
+        rand = new SplittableRandom(seed);
+    }
+
+    /**
+     * Puts the bag's random numbers back to where they were after some draws from a seed, as they are
+     * saved with a game.
+     * @param seed The seed for drawing tiles.
+     * @param draws The number of random numbers taken since the bag was seeded, at most MAX_DRAWS.
+     * @throws IllegalArgumentException If draws is negative or more than MAX_DRAWS.
+     */
+    public void restore(long seed, long draws) {
+        if (draws < 0 || draws > MAX_DRAWS) {
+            throw new IllegalArgumentException("Bad bag draws " + draws);
+        }
+        reseed(seed);
+        for (long i = 0; i < draws; i++) {
+            rand.nextLong();
+        }
+        this.draws = draws;
+    }
+
+    /**
+     * Returns the seed the bag's tiles are drawn with.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of random numbers taken since the bag was seeded (one for each tile drawn).
+     * @return The draw count.
+     */
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * Makes a copy of the bag which draws its tiles independently, for simulating how a game might go on
+     * (on another thread, say) without changing this bag. The copy's seed is taken from this bag's random
+     * numbers, so a seeded bag splits the same way every time.
+     * @return A new bag holding the same tiles.
+     */
+    public TileBag split() {
+        draws++;
+        return new TileBag(this, rand.nextLong());
+    }
+
+    /**
+     * Returns the kind of a tile's letter.
+     * @param letter The letter; anything other than a single letter counts as a blank.
+     * @return 0-25 for the letters A-Z, BLANK for a blank.
+     */
+    public static int kind(String letter) {
+        int index = letter.length() == 1 ? Dawg.letterIndex(letter.charAt(0)) : -1;
+        return index < 0 ? BLANK : index;
+    }
+
+    /**
+     * Returns the letter of a kind of tile.
+     * @param kind 0-25 for the letters A-Z, BLANK for a blank.
+     * @return The letter, or "-" for a blank.
+     */
+    public static String letterOf(int kind) {
+        return LETTERS[kind];
+    }
+
+    /**
+     * Picks a random position in the bag, taking exactly one random number, so the draws made from a seed can
+     * be counted and made again.
+     * @param bound The number of positions.
+     * @return A position from 0 to bound - 1.
+     */
+    private int nextIndex(int bound) {
+        draws++;
+        return (int) (((rand.nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Makes the random numbers again from the seed and draws, since they aren't saved with the bag.
+     * @param in The stream the bag is read from.
+     * @throws IOException If the bag can't be read.
+     * @throws ClassNotFoundException If a class of the bag can't be found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        restore(seed, draws);
+    }
+
+    /**
+     * Finds the kind of the tile at a position in the bag, with the tiles in the order of their kinds.
+     * @param index The position, from 0 to size - 1.
+     * @return The kind of the tile.
+     */
+    private int kindAt(int index) {
+        int kind = 0;
+        while (index >= counts[kind]) {
+            index -= counts[kind++];
         }
+        return kind;
     }
 
     public int scoreLetter(String letter) {
@@ -113,4 +316,51 @@ public class TileBag implements Serializable {
                 return 0;
         }
     }
+
+    /**
+     * The letters of the tiles inside a bag, as a list.
+     */
+    private static class TileList extends AbstractList<String> implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final TileBag bag;
+
+        TileList(TileBag bag) {
+            this.bag = bag;
+        }
+
+        @Override
+        public String get(int index) {
+            Objects.checkIndex(index, bag.size);
+            return LETTERS[bag.kindAt(index)];
+        }
+
+        @Override
+        public int size() {
+            return bag.size;
+        }
+
+        @Override
+        public void add(int index, String letter) {
+            bag.addTiles(letter, 1); //goes with the others of its kind, wherever it was added
+            modCount++;
+        }
+
+        @Override
+        public String remove(int index) {
+            String letter = get(index);
+            bag.counts[kind(letter)]--;
+            bag.size--;
+            modCount++;
+            return letter;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(bag.counts, 0);
+            bag.size = 0;
+            modCount++;
+        }
+    }
 }
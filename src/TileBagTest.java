@@ -57,4 +57,83 @@ class TileBagTest {
         org.junit.jupiter.api.Assertions.assertEquals(8, bag.scoreLetter(testJ.getLetter()));
         org.junit.jupiter.api.Assertions.assertEquals(10, bag.scoreLetter(testQ.getLetter()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Testing the bag deals exactly the tiles it holds")
+    void drawAll() {
+        TileBag bag = new TileBag(7);
+        int[] counts = bag.getCounts();
+        int size = bag.size();
+        for (int i = 0; i < size; i++) {
+            Tile t = bag.drawTile();
+            counts[TileBag.kind(t.getLetter())]--;
+        }
+        org.junit.jupiter.api.Assertions.assertNull(bag.drawTile());
+        org.junit.jupiter.api.Assertions.assertTrue(bag.isEmpty());
+        org.junit.jupiter.api.Assertions.assertArrayEquals(new int[TileBag.KINDS], counts);
+    }
+
+    @Test
+    @DisplayName("Testing the list of tiles follows the counts")
+    void tileList() {
+        TileBag bag = new TileBag(1);
+        bag.TILES.clear();
+        bag.addTiles("B", 2);
+        bag.addTile(new Tile("-", 0));
+        bag.TILES.add("A");
+        org.junit.jupiter.api.Assertions.assertEquals(java.util.List.of("A", "B", "B", "-"), bag.TILES);
+        org.junit.jupiter.api.Assertions.assertEquals(2, bag.count("B"));
+
+        bag.TILES.remove(1);
+        org.junit.jupiter.api.Assertions.assertEquals(1, bag.count("B"));
+        org.junit.jupiter.api.Assertions.assertEquals(3, bag.size());
+    }
+
+    @Test
+    @DisplayName("Testing bags with the same seed deal the same tiles")
+    void seeded() {
+        TileBag first = new TileBag(42);
+        TileBag second = new TileBag(42);
+        for (int i = 0; i < 20; i++) {
+            org.junit.jupiter.api.Assertions.assertEquals(first.drawTile().getLetter(), second.drawTile().getLetter());
+        }
+    }
+
+    @Test
+    @DisplayName("Testing a split bag deals the same tiles every time, and doesn't change its parent's draws")
+    void split() {
+        TileBag first = new TileBag(42);
+        TileBag second = new TileBag(42);
+        TileBag firstChild = first.split();
+        TileBag secondChild = second.split();
+        org.junit.jupiter.api.Assertions.assertNotEquals(first.getSeed(), firstChild.getSeed());
+        org.junit.jupiter.api.Assertions.assertEquals(first.size(), firstChild.size());
+        for (int i = 0; i < 20; i++) {
+            org.junit.jupiter.api.Assertions.assertEquals(firstChild.drawTile().getLetter(), secondChild.drawTile().getLetter());
+        }
+        //drawing from the child doesn't touch the parent
+        for (int i = 0; i < 20; i++) {
+            org.junit.jupiter.api.Assertions.assertEquals(first.drawTile().getLetter(), second.drawTile().getLetter());
+        }
+        org.junit.jupiter.api.Assertions.assertEquals(first.size(), firstChild.size());
+    }
+
+    @Test
+    @DisplayName("Testing a bag restored from its seed and draws carries on with the same tiles")
+    void restore() {
+        TileBag bag = new TileBag(9);
+        for (int i = 0; i < 10; i++) {
+            bag.drawTile();
+        }
+        TileBag copy = new TileBag(0);
+        copy.TILES.clear();
+        for (String letter : bag.TILES) {
+            copy.addTiles(letter, 1);
+        }
+        copy.restore(bag.getSeed(), bag.getDraws());
+        org.junit.jupiter.api.Assertions.assertEquals(10, copy.getDraws());
+        while (!bag.isEmpty()) {
+            org.junit.jupiter.api.Assertions.assertEquals(bag.drawTile().getLetter(), copy.drawTile().getLetter());
+        }
+    }
+}
@@ -48,6 +48,16 @@ class TileTest {
         Tile blank = new Tile("-");
         blank.setLetter("B");
         org.junit.jupiter.api.Assertions.assertEquals("B", blank.getLetter());
+        org.junit.jupiter.api.Assertions.assertTrue(blank.isBlank());
+    }
+
+    @Test
+    @DisplayName("Testing checking for a blank tile doesn't change its letter")
+    void testIsBlankKeepsLetter() {
+        Tile blank = new Tile("-");
+        org.junit.jupiter.api.Assertions.assertTrue(blank.isBlank());
+        org.junit.jupiter.api.Assertions.assertEquals("-", blank.getLetter());
+        org.junit.jupiter.api.Assertions.assertFalse(new Tile("A", 1).isBlank());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * A Tournament plays many HeadlessGames between AI players at once, one game per thread of a pool,
+ * and collects their results into TournamentStats. It is used to compare changes to the AI and
+ * different board layouts.
+ *
+ * Each game is dealt from its own bag, seeded from the tournament seed, so a tournament can be
+ * repeated exactly. Each AI searches on its own game's thread only, since the games already keep
+ * every core busy, which lets the tournament scale with the number of cores.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class Tournament {
+    /** The number of games to play. */
+    private final int games;
+    /** The number of AI players in each game. */
+    private final int players;
+    /** The number of games played at once. */
+    private final int threads;
+    /** The seed the seed of each game's bag is drawn from. */
+    private final long seed;
+    /** The XML file of the board layout, or null for the standard board. */
+    private String boardFile;
+    /** The archive every finished game is added to, or null to keep none. */
+    private GameArchive archive;
+    /** Called with the result of each game as it finishes. */
+    private final List<Consumer<GameResult>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a new Tournament.
+     * @param games The number of games to play.
+     * @param players The number of AI players in each game.
+     * @param threads The number of games played at once.
+     * @param seed The seed which every game's bag is seeded from.
+     */
+    public Tournament(int games, int players, int threads, long seed) {
+        if (games < 0 || players < 1 || threads < 1) {
+            throw new IllegalArgumentException("Invalid tournament: " + games + " games, " + players + " players, " + threads + " threads");
+        }
+        this.games = games;
+        this.players = players;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the board layout the games are played on.
+     * @param boardFile The XML file of the layout (see BoardLoader), or null for the standard board.
+     */
+    public void setBoardFile(String boardFile) {
+        this.boardFile = boardFile;
+    }
+
+    /**
+     * Sets the archive every finished game is added to.
+     * @param archive The archive, or null to keep no games.
+     */
+    public void setArchive(GameArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Adds a listener which is given the result of each game as soon as it finishes. Listeners are
+     * called on the thread which played the game.
+     * @param listener The listener to be added.
+     */
+    public void addListener(Consumer<GameResult> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the seed of a game's bag.
+     * @param game The number of the game, from 0.
+     * @return The seed the game's tiles are drawn with.
+     */
+    public long gameSeed(int game) {
+        return new SplittableRandom(seed + game).nextLong();
+    }
+
+    /**
+     * Plays every game and waits for them to finish.
+     * @return The statistics of every game.
+     * @throws InterruptedException If interrupted while waiting, in which case unfinished games are cancelled.
+     */
+    public TournamentStats run() throws InterruptedException {
+        TournamentStats stats = new TournamentStats();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Tournament game");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int g = 0; g < games; g++) {
+                int game = g;
+                futures.add(pool.submit(() -> {
+                    GameResult result = playGame(game);
+                    stats.add(result);
+                    for (Consumer<GameResult> listener : listeners) {
+                        listener.accept(result);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    System.err.println("Error playing game: " + e.getCause());
+                    e.getCause().printStackTrace();
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return stats;
+    }
+
+    /**
+     * Plays a single game of the tournament.
+     * @param game The number of the game, from 0.
+     * @return The result of the game.
+     */
+    private GameResult playGame(int game) {
+        HeadlessGame headless = new HeadlessGame();
+        for (int p = 1; p <= players; p++) {
+            headless.addAIPlayer("AIPlayer" + p).setParallelism(1);
+        }
+        headless.setBoardFile(boardFile);
+        headless.setSeed(gameSeed(game));
+        GameResult result = headless.play();
+        if (archive != null) {
+            try {
+                archive.append(headless.getModel());
+            } catch (IOException e) {
+                System.err.println("Error archiving game: " + e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Plays a tournament and prints each game's result followed by the statistics.
+     * @param args The number of games (default 100), the number of AI players (default 2), the number of
+     *             threads (default one per core), the seed (default 0), optionally the XML file of the
+     *             board layout ("-" for the standard board), and optionally an archive to add every game to.
+     * @throws InterruptedException If interrupted while playing.
+     * @throws IOException If the archive can't be opened.
+     */
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+
+        Tournament tournament = new Tournament(games, players, threads, seed);
+        if (args.length > 4 && !args[4].equals("-")) {
+            tournament.setBoardFile(args[4]);
+        }
+        GameArchive archive = args.length > 5 ? new GameArchive(args[5]) : null;
+        tournament.setArchive(archive);
+        tournament.addListener(result -> System.out.println(result));
+        System.out.print(tournament.run());
+        if (archive != null) {
+            System.out.println("Archived games: " + archive.size());
+            archive.close();
+        }
+    }
+}
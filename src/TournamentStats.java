@@ -0,0 +1,143 @@
+import java.util.*;
+
+/**
+ * TournamentStats collects the results of the games of a Tournament as they finish, and summarizes
+ * them: throughput, how long moves took (as percentiles), and how each seat scored. Results may be
+ * added from any thread.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class TournamentStats {
+    /** The number of games added. */
+    private int games;
+    /** The number of turns played over every game. */
+    private long turns;
+    /** The number of turns where tiles were placed. */
+    private long plays;
+    /** The number of plays which used seven tiles. */
+    private long bingos;
+    /** The total score of each seat (position in turn order). */
+    private long[] seatScores = new long[0];
+    /** The number of games won by each seat. */
+    private int[] seatWins = new int[0];
+    /** How long every turn took, in nanoseconds, in the order the results were added. */
+    private long[] turnNanos = new long[1024];
+    /** The highest single game score. */
+    private int highScore;
+    /** When the first game started, in System.nanoTime() units. */
+    private final long startNanos;
+    /** When the last result was added, in System.nanoTime() units. */
+    private long endNanos;
+
+    /**
+     * Constructs new, empty TournamentStats, timing the tournament from now.
+     */
+    public TournamentStats() {
+        startNanos = System.nanoTime();
+        endNanos = startNanos;
+    }
+
+    /**
+     * Adds the result of a finished game.
+     * @param result The result of the game.
+     */
+    public synchronized void add(GameResult result) {
+        games++;
+        turns += result.turns;
+        plays += result.plays;
+        bingos += result.bingos;
+        if (seatScores.length < result.scores.length) {
+            seatScores = Arrays.copyOf(seatScores, result.scores.length);
+            seatWins = Arrays.copyOf(seatWins, result.scores.length);
+        }
+        for (int i = 0; i < result.scores.length; i++) {
+            seatScores[i] += result.scores[i];
+            highScore = Math.max(highScore, result.scores[i]);
+        }
+        seatWins[result.winner()]++;
+
+        int from = (int) (turns - result.turns);
+        if (turns > turnNanos.length) {
+            turnNanos = Arrays.copyOf(turnNanos, (int) Math.max(turnNanos.length * 2L, turns));
+        }
+        System.arraycopy(result.turnNanos, 0, turnNanos, from, result.turns);
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the number of games added.
+     * @return The game count.
+     */
+    public synchronized int getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of turns played over every game.
+     * @return The turn count.
+     */
+    public synchronized long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns the number of seven tile plays over every game.
+     * @return The bingo count.
+     */
+    public synchronized long getBingos() {
+        return bingos;
+    }
+
+    /**
+     * Returns the number of games finished per second of wall clock time.
+     * @return The throughput in games per second.
+     */
+    public synchronized double gamesPerSecond() {
+        long elapsed = endNanos - startNanos;
+        return elapsed == 0 ? 0 : games * 1e9 / elapsed;
+    }
+
+    /**
+     * Returns how long a percentage of turns took at most.
+     * @param percent The percentile, from 0 to 100.
+     * @return The time in nanoseconds which that percentage of turns took at most, or 0 if no turns were played.
+     */
+    public synchronized long turnPercentile(double percent) {
+        if (turns == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(turnNanos, (int) turns);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percent / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Returns the average final score of a seat.
+     * @param seat The position in turn order.
+     * @return The average score, or 0 if no game had that seat.
+     */
+    public synchronized double averageScore(int seat) {
+        return games == 0 || seat >= seatScores.length ? 0 : (double) seatScores[seat] / games;
+    }
+
+    /**
+     * Returns a multi-line report of the tournament.
+     * @return The summary of every statistic.
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        double seconds = (endNanos - startNanos) / 1e9;
+        sb.append(String.format("games: %d in %.2fs (%.2f games/s)%n", games, seconds, gamesPerSecond()));
+        sb.append(String.format("turns: %d, plays: %d, bingos: %d (%.2f per game), high score: %d%n",
+                turns, plays, bingos, games == 0 ? 0.0 : (double) bingos / games, highScore));
+        sb.append(String.format("turn time: p50 %.2fms, p90 %.2fms, p99 %.2fms, max %.2fms%n",
+                turnPercentile(50) / 1e6, turnPercentile(90) / 1e6, turnPercentile(99) / 1e6, turnPercentile(100) / 1e6));
+        for (int i = 0; i < seatScores.length; i++) {
+            sb.append(String.format("seat %d: average score %.1f, wins %d%n", i + 1, averageScore(i), seatWins[i]));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Test for the Tournament class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+class TournamentTest {
+
+    @Test
+    @DisplayName("Testing every game of a tournament is played and counted")
+    void run() throws InterruptedException {
+        Tournament tournament = new Tournament(3, 2, 2, 42);
+        List<GameResult> results = Collections.synchronizedList(new ArrayList<>());
+        tournament.addListener(results::add);
+        TournamentStats stats = tournament.run();
+
+        org.junit.jupiter.api.Assertions.assertEquals(3, stats.getGames());
+        org.junit.jupiter.api.Assertions.assertEquals(3, results.size());
+        long turns = 0;
+        for (GameResult result : results) {
+            turns += result.turns;
+        }
+        org.junit.jupiter.api.Assertions.assertEquals(turns, stats.getTurns());
+        org.junit.jupiter.api.Assertions.assertTrue(stats.gamesPerSecond() > 0);
+        org.junit.jupiter.api.Assertions.assertTrue(stats.turnPercentile(50) <= stats.turnPercentile(99));
+    }
+
+    @Test
+    @DisplayName("Testing a seeded game is played the same way twice")
+    void seeded() throws InterruptedException {
+        Tournament tournament = new Tournament(1, 2, 1, 7);
+        GameResult[] first = new GameResult[1];
+        tournament.addListener(result -> first[0] = result);
+        tournament.run();
+
+        HeadlessGame game = new HeadlessGame();
+        game.addAIPlayer("AIPlayer1").setParallelism(1);
+        game.addAIPlayer("AIPlayer2").setParallelism(1);
+        game.setSeed(tournament.gameSeed(0));
+        GameResult second = game.play();
+
+        org.junit.jupiter.api.Assertions.assertArrayEquals(first[0].scores, second.scores);
+        org.junit.jupiter.api.Assertions.assertEquals(first[0].turns, second.turns);
+    }
+}
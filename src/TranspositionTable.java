@@ -0,0 +1,136 @@
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A TranspositionTable remembers the best plays found for positions (board and rack) the AI has already
+ * searched, keyed by Zobrist hash, so a position seen again (after an undo, on reloading a game, or in a
+ * search which reaches the same position by different plays) is answered without searching.
+ *
+ * The table has a fixed number of slots, and a new entry replaces whatever was in its slot, so it never
+ * grows. Entries are never changed once stored, so any number of threads can use the table without locks.
+ * Each entry also holds the word graph it was searched with, so a change of dictionary never returns stale
+ * plays.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class TranspositionTable {
+    /** The number of slots of the table shared by the AI players. */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    /** The table shared by the AI players, unless they are given their own. */
+    private static final TranspositionTable SHARED = new TranspositionTable(DEFAULT_CAPACITY);
+
+    /** An entry of the table: the best plays of a position, highest score first. */
+    private record Entry(long key, Object context, int count, List<Move> moves) { }
+
+    /** The slots, indexed by the low bits of the key. */
+    private final AtomicReferenceArray<Entry> slots;
+    /** The number of lookups which found an entry. */
+    private final LongAdder hits = new LongAdder();
+    /** The number of lookups which didn't. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a new TranspositionTable.
+     * @param capacity The number of slots, which is rounded up to a power of two. A table with no slots
+     *                 never stores anything, which turns caching off.
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        slots = new AtomicReferenceArray<>(capacity <= 1 ? capacity : Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    /**
+     * Returns the table shared by the AI players.
+     * @return The shared table.
+     */
+    public static TranspositionTable shared() {
+        return SHARED;
+    }
+
+    /**
+     * Looks up the best plays of a position.
+     * @param key The hash of the position.
+     * @param context What else the plays depend on (the word graph), compared by identity.
+     * @param count The number of plays wanted.
+     * @return Up to count plays, highest score first, or null if the position isn't stored with at least that
+     *         many. The plays must not be changed.
+     */
+    public List<Move> get(long key, Object context, int count) {
+        if (slots.length() == 0) {
+            return null;
+        }
+        Entry entry = slots.get(index(key));
+        //an entry with fewer plays than were asked for holds every play, so it answers any count
+        if (entry != null && entry.key == key && entry.context == context
+                && (entry.count >= count || entry.moves.size() < entry.count)) {
+            hits.increment();
+            return entry.moves.size() > count ? entry.moves.subList(0, count) : entry.moves;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores the best plays of a position, replacing whatever was in its slot.
+     * @param key The hash of the position.
+     * @param context What else the plays depend on (the word graph), compared by identity.
+     * @param count The number of plays that were asked for.
+     * @param moves Up to count plays, highest score first.
+     */
+    public void put(long key, Object context, int count, List<Move> moves) {
+        if (slots.length() == 0) {
+            return;
+        }
+        List<Move> copies = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            copies.add(new Move(new ArrayList<>(move.placedTiles), move.score));
+        }
+        slots.set(index(key), new Entry(key, context, count, Collections.unmodifiableList(copies)));
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    /**
+     * Returns the number of slots.
+     * @return The capacity.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns the number of lookups which found the position.
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which didn't find the position.
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the slot of a key.
+     * @param key The hash of a position.
+     * @return The index of its slot.
+     */
+    private int index(long key) {
+        return (int) (key ^ (key >>> 32)) & (slots.length() - 1);
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Test for the TranspositionTable class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TranspositionTableTest {
+
+    @Test
+    @DisplayName("Testing the board hash doesn't depend on the order tiles are placed")
+    void boardHashOrder() {
+        Board first = new Board();
+        first.setDefaultBoard();
+        first.commitTiles(TestFixtures.word("AT", 7, 7, true));
+        first.commitTiles(TestFixtures.word("T", 8, 7, true));
+
+        Board second = new Board();
+        second.setDefaultBoard();
+        ArrayList<PlacedTile> reversed = new ArrayList<>(TestFixtures.word("T", 8, 7, true));
+        reversed.addAll(TestFixtures.word("AT", 7, 7, true));
+        second.commitTiles(new ArrayList<>(reversed.reversed()));
+
+        org.junit.jupiter.api.Assertions.assertEquals(first.getHash(), second.getHash());
+        org.junit.jupiter.api.Assertions.assertNotEquals(new Board().getHash(), first.getHash());
+        //the same tiles on a board without premiums hash differently
+        Board plain = new Board();
+        plain.commitTiles(TestFixtures.word("AT", 7, 7, true));
+        plain.commitTiles(TestFixtures.word("T", 8, 7, true));
+        org.junit.jupiter.api.Assertions.assertNotEquals(first.getHash(), plain.getHash());
+    }
+
+    @Test
+    @DisplayName("Testing undoing a placement returns to the same hash")
+    void undoHash() {
+        GameModel model = new GameModel(TestFixtures.words("at"));
+        Player player = new Player("P1");
+        player.hand.add(TestFixtures.tile('A'));
+        player.hand.add(TestFixtures.tile('T'));
+        model.addPlayer(player);
+        long board = model.board.getHash();
+        long rack = player.getRackHash();
+
+        ArrayList<PlacedTile> undo = new ArrayList<>();
+        ArrayList<PlacedTile> redo = new ArrayList<>();
+        Tile a = player.hand.getFirst();
+        redo.add(new PlacedTile(7, 7, a));
+        model.revertAction(redo, undo);
+        org.junit.jupiter.api.Assertions.assertNotEquals(board, model.board.getHash());
+        org.junit.jupiter.api.Assertions.assertNotEquals(rack, player.getRackHash());
+
+        model.revertAction(undo, redo);
+        org.junit.jupiter.api.Assertions.assertEquals(board, model.board.getHash());
+        org.junit.jupiter.api.Assertions.assertEquals(rack, player.getRackHash());
+    }
+
+    @Test
+    @DisplayName("Testing the rack hash counts repeated letters and ignores order")
+    void rackHash() {
+        Player.Hand hand = new Player.Hand(TestFixtures.hand("ATA"));
+        org.junit.jupiter.api.Assertions.assertEquals(Zobrist.rack(TestFixtures.hand("TAA")), hand.getHash());
+        org.junit.jupiter.api.Assertions.assertNotEquals(Zobrist.rack(TestFixtures.hand("T")), hand.getHash());
+
+        hand.removeIf(t -> t.getLetter().equals("A")); //not tracked, so the hash is worked out again
+        org.junit.jupiter.api.Assertions.assertEquals(Zobrist.rack(TestFixtures.hand("T")), hand.getHash());
+    }
+
+    @Test
+    @DisplayName("Testing a position searched again is found in the table, with the current hand's tiles")
+    void repeatedSearch() {
+        Dictionary dictionary = TestFixtures.words("at", "cat", "tac");
+        Board board = new Board();
+        board.commitTiles(TestFixtures.word("AT", 7, 7, true));
+        TranspositionTable table = new TranspositionTable(64);
+
+        MoveGenerator first = new MoveGenerator(board, dictionary);
+        first.setTranspositionTable(table);
+        List<Move> searched = first.generateBest(TestFixtures.hand("C"), 3, null);
+        long misses = table.getMisses();
+
+        ArrayList<Tile> hand = TestFixtures.hand("C");
+        MoveGenerator second = new MoveGenerator(board, dictionary);
+        second.setTranspositionTable(table);
+        List<Move> found = second.generateBest(hand, 3, null);
+
+        org.junit.jupiter.api.Assertions.assertEquals(misses, table.getMisses());
+        org.junit.jupiter.api.Assertions.assertEquals(1, table.getHits());
+        org.junit.jupiter.api.Assertions.assertEquals(searched.size(), found.size());
+        for (int i = 0; i < found.size(); i++) {
+            org.junit.jupiter.api.Assertions.assertEquals(searched.get(i).score, found.get(i).score);
+            org.junit.jupiter.api.Assertions.assertSame(hand.getFirst(), found.get(i).placedTiles.getFirst().tile);
+        }
+    }
+
+    @Test
+    @DisplayName("Testing entries only answer the dictionary they were searched with, and a table without slots stores nothing")
+    void contextAndDisabled() {
+        TranspositionTable table = new TranspositionTable(5);
+        org.junit.jupiter.api.Assertions.assertEquals(8, table.capacity());
+        Object dawg = new Object();
+        table.put(42, dawg, 1, List.of(new Move(TestFixtures.word("AT", 7, 7, true), 2)));
+        org.junit.jupiter.api.Assertions.assertEquals(1, table.get(42, dawg, 1).size());
+        org.junit.jupiter.api.Assertions.assertNull(table.get(42, new Object(), 1));
+        org.junit.jupiter.api.Assertions.assertNull(table.get(43, dawg, 1));
+        //an entry with as many plays as were asked for may be missing some, but one with fewer has every play
+        org.junit.jupiter.api.Assertions.assertNull(table.get(42, dawg, 5));
+        table.put(42, dawg, 3, List.of(new Move(TestFixtures.word("AT", 7, 7, true), 2)));
+        org.junit.jupiter.api.Assertions.assertEquals(1, table.get(42, dawg, 5).size());
+
+        TranspositionTable disabled = new TranspositionTable(0);
+        disabled.put(42, dawg, 1, List.of(new Move(TestFixtures.word("AT", 7, 7, true), 2)));
+        org.junit.jupiter.api.Assertions.assertNull(disabled.get(42, dawg, 1));
+    }
+}
@@ -0,0 +1,114 @@
+import java.util.*;
+
+/**
+ * A TurnScheduler plays the turns of AI players in a game one after another in a loop, rather than
+ * each turn starting the next, so a game between AI players runs to the end in constant stack space.
+ * Listeners are told about every turn played, including how long it took.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class TurnScheduler {
+    /**
+     * Listens for the turns played by a TurnScheduler.
+     */
+    public interface TurnListener {
+        /**
+         * Called after each turn has been played, before moving on to the next player.
+         * @param player The player whose turn it was.
+         * @param move The play made, or null if the player passed.
+         * @param score The score of the play.
+         * @param nanos How long the turn took, including the AI's search, in nanoseconds.
+         */
+        void turnPlayed(Player player, Move move, int score, long nanos);
+    }
+
+    /** The game whose turns are played. */
+    private final GameModel model;
+    /** The listeners told about each turn. */
+    private final List<TurnListener> listeners = new ArrayList<>();
+
+    /**
+     * Constructs a new TurnScheduler for a game.
+     * @param model The game whose turns are played.
+     */
+    public TurnScheduler(GameModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Adds a listener to be told about every turn played.
+     * @param listener The listener.
+     */
+    public void addListener(TurnListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Plays the current player's turn if they are an AI player and the game isn't over, then moves on to
+     * the next player.
+     * @return true if a turn was played.
+     */
+    public boolean playAITurn() {
+        if (model.isGameOver() || !(model.getCurrentPlayer() instanceof AIPlayer ai)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        Move move = ai.findBestMove();
+        Move played = placesTile(model, move) ? move : null;
+        int score = applyTurn(model, move);
+        long nanos = System.nanoTime() - start;
+        for (TurnListener listener : listeners) {
+            listener.turnPlayed(ai, played, score, nanos);
+        }
+        model.nextTurn();
+        return true;
+    }
+
+    /**
+     * Plays AI turns until it is a human player's turn, the game is over, or a number of turns have been played.
+     * A game with only AI players is played to the end.
+     * @param maxTurns The most turns to play.
+     * @return The number of turns played.
+     */
+    public int runAITurns(int maxTurns) {
+        int turns = 0;
+        while (turns < maxTurns && playAITurn()) {
+            turns++;
+        }
+        return turns;
+    }
+
+    /**
+     * Makes the current player's play, or passes their turn if there is no play with a tile to place.
+     * Does not move on to the next player.
+     * @param model The game.
+     * @param move The play, or null to pass.
+     * @return The score of the play.
+     */
+    public static int applyTurn(GameModel model, Move move) {
+        if (placesTile(model, move)) {
+            return model.playMove(move);
+        }
+        model.passTurn();
+        return 0;
+    }
+
+    /**
+     * Checks that a play places at least one tile on an empty square.
+     * @param model The game.
+     * @param move The play, or null.
+     * @return true if the play places a tile.
+     */
+    private static boolean placesTile(GameModel model, Move move) {
+        if (move == null) {
+            return false;
+        }
+        for (PlacedTile pt : move.placedTiles) {
+            if (model.board.getPermTile(pt.row, pt.col) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
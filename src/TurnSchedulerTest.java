@@ -0,0 +1,53 @@
+/**
+ * Test for the TurnScheduler class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TurnSchedulerTest {
+
+    @Test
+    @DisplayName("Testing a game between AI players is played to the end")
+    void playToEnd() {
+        HeadlessGame game = new HeadlessGame();
+        AIPlayer ai1 = game.addAIPlayer("AI1");
+        AIPlayer ai2 = game.addAIPlayer("AI2");
+        ai1.setParallelism(1);
+        ai2.setParallelism(1);
+        GameModel model = game.getModel();
+        model.setupGame();
+        model.board.setDefaultBoard();
+
+        int[] turns = {0};
+        int[] total = {0};
+        TurnScheduler scheduler = new TurnScheduler(model);
+        scheduler.addListener((player, move, score, nanos) -> {
+            turns[0]++;
+            total[0] += score;
+            org.junit.jupiter.api.Assertions.assertTrue(nanos >= 0);
+        });
+
+        int played = scheduler.runAITurns(10000);
+        org.junit.jupiter.api.Assertions.assertTrue(model.isGameOver());
+        org.junit.jupiter.api.Assertions.assertEquals(played, turns[0]);
+        org.junit.jupiter.api.Assertions.assertEquals(ai1.getScore() + ai2.getScore(), total[0]);
+        //no more turns once the game is over
+        org.junit.jupiter.api.Assertions.assertFalse(scheduler.playAITurn());
+    }
+
+    @Test
+    @DisplayName("Testing the scheduler stops at a human player's turn")
+    void stopAtHuman() {
+        GameModel model = new GameModel();
+        model.addPlayer(new Player("p1"));
+        model.addPlayer(new AIPlayer("AI2", model));
+        model.setupGame();
+
+        org.junit.jupiter.api.Assertions.assertEquals(0, new TurnScheduler(model).runAITurns(10));
+        org.junit.jupiter.api.Assertions.assertEquals(0, model.currentPlayerIndex);
+    }
+}
@@ -0,0 +1,189 @@
+import java.util.*;
+
+/**
+ * A WordPattern describes the words of a fixed length which fit a set of squares: each slot holds the letters
+ * a word may have there, as a mask with one bit per letter ('a' is bit 0). A slot is a known letter, a wildcard
+ * which allows any letter, or any other set of letters (e.g. the letters which make valid cross words).
+ *
+ * Patterns are written one character per slot: a letter (in either case) for a known letter, '_' or '?' for a
+ * wildcard, and "[abc]" for a set of letters, or "[^abc]" for every letter but those. "_A__E" matches the five
+ * letter words with A second and E last. WordPatterns can't be changed; allow returns a new pattern.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public final class WordPattern {
+    /** The mask of a slot which allows any letter. */
+    public static final int ANY = (1 << Dawg.LETTERS) - 1;
+
+    /** The letters allowed in each slot. */
+    private final int[] slots;
+
+    /**
+     * Constructs a WordPattern from the letters allowed in each slot.
+     * @param slots A mask of the letters allowed in each slot, with bit i set if letter i is allowed.
+     * @throws IllegalArgumentException If there are no slots, or a mask has bits other than the 26 letters.
+     */
+    public WordPattern(int... slots) {
+        if (slots.length == 0) {
+            throw new IllegalArgumentException("A pattern needs at least one slot");
+        }
+        for (int mask : slots) {
+            if ((mask & ~ANY) != 0) {
+                throw new IllegalArgumentException("Bad letter mask " + Integer.toHexString(mask));
+            }
+        }
+        this.slots = slots.clone();
+    }
+
+    /**
+     * Reads a pattern such as "_A__E" or "[aeiou]_T".
+     * @param pattern The pattern, one letter, wildcard ('_' or '?') or bracketed set of letters per slot.
+     * @return The pattern.
+     * @throws IllegalArgumentException If the pattern is empty or can't be read.
+     */
+    public static WordPattern parse(String pattern) {
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '_' || c == '?') {
+                slots.add(ANY);
+            } else if (c == '[') {
+                int end = pattern.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed '[' in pattern " + pattern);
+                }
+                boolean negated = end > i + 1 && pattern.charAt(i + 1) == '^';
+                int mask = letters(pattern.substring(negated ? i + 2 : i + 1, end));
+                slots.add(negated ? ANY & ~mask : mask);
+                i = end;
+            } else {
+                slots.add(letters(String.valueOf(c)));
+            }
+        }
+        int[] masks = new int[slots.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = slots.get(i);
+        }
+        return new WordPattern(masks);
+    }
+
+    /**
+     * Makes the pattern of part of a board line, as found by Board.extractPattern: squares with a tile are
+     * known letters, and empty squares are wildcards.
+     * @param line The squares of the line, "_" for an empty square and otherwise the letter of its tile.
+     * @param start The first square of the pattern.
+     * @param length The number of squares in the pattern.
+     * @return The pattern.
+     * @throws IllegalArgumentException If a square isn't "_" or a letter.
+     */
+    public static WordPattern of(String[] line, int start, int length) {
+        int[] masks = new int[length];
+        for (int i = 0; i < length; i++) {
+            String square = line[start + i];
+            masks[i] = square.equals("_") ? ANY : letters(square);
+        }
+        return new WordPattern(masks);
+    }
+
+    /**
+     * Makes the mask of a set of letters.
+     * @param letters The letters, in either case.
+     * @return The mask, with bit i set for letter i.
+     * @throws IllegalArgumentException If a character isn't a letter.
+     */
+    public static int letters(String letters) {
+        int mask = 0;
+        for (int i = 0; i < letters.length(); i++) {
+            int letter = Dawg.letterIndex(letters.charAt(i));
+            if (letter < 0) {
+                throw new IllegalArgumentException("'" + letters.charAt(i) + "' is not a letter");
+            }
+            mask |= 1 << letter;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns a copy of the pattern which only allows some letters in one slot, as well as the letters
+     * already required there.
+     * @param slot The slot, from 0.
+     * @param mask The letters to allow, with bit i set for letter i.
+     * @return The narrowed pattern.
+     */
+    public WordPattern allow(int slot, int mask) {
+        int[] masks = slots.clone();
+        masks[slot] &= mask;
+        return new WordPattern(masks);
+    }
+
+    /**
+     * Returns the number of slots, which is the length of every matching word.
+     * @return The length.
+     */
+    public int length() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the letters allowed in a slot.
+     * @param slot The slot, from 0.
+     * @return A mask with bit i set if letter i is allowed.
+     */
+    public int slot(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * Checks if a word fits the pattern, ignoring case.
+     * @param word The word to check.
+     * @return true if the word has a letter allowed by each slot.
+     */
+    public boolean matches(CharSequence word) {
+        if (word.length() != slots.length) {
+            return false;
+        }
+        for (int i = 0; i < slots.length; i++) {
+            int letter = Dawg.letterIndex(word.charAt(i));
+            if (letter < 0 || (slots[i] & (1 << letter)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WordPattern other && Arrays.equals(slots, other.slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(slots);
+    }
+
+    /**
+     * Writes the pattern in the form parse reads: known letters in uppercase, '_' for wildcards and the
+     * shorter of "[...]" and "[^...]" for other sets.
+     * @return The pattern.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int mask : slots) {
+            if (mask == ANY) {
+                sb.append('_');
+            } else if (Integer.bitCount(mask) == 1) {
+                sb.append((char) ('A' + Integer.numberOfTrailingZeros(mask)));
+            } else {
+                boolean negated = Integer.bitCount(mask) > Dawg.LETTERS / 2;
+                sb.append(negated ? "[^" : "[");
+                for (int bits = negated ? ANY & ~mask : mask; bits != 0; bits &= bits - 1) {
+                    sb.append((char) ('a' + Integer.numberOfTrailingZeros(bits)));
+                }
+                sb.append(']');
+            }
+        }
+        return sb.toString();
+    }
+}
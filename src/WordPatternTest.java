@@ -0,0 +1,51 @@
+/**
+ * Test for the WordPattern class
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WordPatternTest {
+
+    @Test
+    @DisplayName("Testing reading patterns of letters, wildcards and sets of letters")
+    void parse() {
+        WordPattern pattern = WordPattern.parse("_a?[EiO][^aeiou]");
+        org.junit.jupiter.api.Assertions.assertEquals(5, pattern.length());
+        org.junit.jupiter.api.Assertions.assertEquals(WordPattern.ANY, pattern.slot(0));
+        org.junit.jupiter.api.Assertions.assertEquals(WordPattern.letters("a"), pattern.slot(1));
+        org.junit.jupiter.api.Assertions.assertEquals(WordPattern.letters("eio"), pattern.slot(3));
+        org.junit.jupiter.api.Assertions.assertEquals(WordPattern.ANY & ~WordPattern.letters("aeiou"), pattern.slot(4));
+        org.junit.jupiter.api.Assertions.assertEquals("_A_[eio][^aeiou]", pattern.toString());
+        org.junit.jupiter.api.Assertions.assertEquals(pattern, WordPattern.parse(pattern.toString()));
+
+        org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class, () -> WordPattern.parse(""));
+        org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class, () -> WordPattern.parse("a[bc"));
+        org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class, () -> WordPattern.parse("a-b"));
+    }
+
+    @Test
+    @DisplayName("Testing words match a pattern only if each letter is allowed in its slot")
+    void matches() {
+        WordPattern pattern = WordPattern.parse("_A__E");
+        org.junit.jupiter.api.Assertions.assertTrue(pattern.matches("table"));
+        org.junit.jupiter.api.Assertions.assertTrue(pattern.matches("CABLE"));
+        org.junit.jupiter.api.Assertions.assertFalse(pattern.matches("tables"));
+        org.junit.jupiter.api.Assertions.assertFalse(pattern.matches("tuple"));
+
+        WordPattern narrowed = pattern.allow(0, WordPattern.letters("ct"));
+        org.junit.jupiter.api.Assertions.assertTrue(narrowed.matches("cable"));
+        org.junit.jupiter.api.Assertions.assertFalse(narrowed.matches("fable"));
+        org.junit.jupiter.api.Assertions.assertTrue(pattern.matches("fable")); //the original is unchanged
+    }
+
+    @Test
+    @DisplayName("Testing the pattern of part of a board line")
+    void ofLine() {
+        String[] line = {"_", "_", "C", "_", "T", "_", "_", "_", "_", "_", "_", "_", "_", "_", "_"};
+        org.junit.jupiter.api.Assertions.assertEquals(WordPattern.parse("_C_T"), WordPattern.of(line, 1, 4));
+    }
+}
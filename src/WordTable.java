@@ -0,0 +1,213 @@
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A WordTable is an open-addressing hash set of lowercase words, used by the Dictionary to answer
+ * membership checks in constant time. Words are stored as packed ASCII bytes in a single pool rather
+ * than as separate String objects, and lookups are done without allocating, so checking a word does
+ * not depend on the size of the word list.
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public class WordTable {
+    /** The value of an unused slot in the table. */
+    private static final int EMPTY = -1;
+    /** The table is grown once it is more than half full, keeping probe sequences short. */
+    private static final int MAX_LOAD_PERCENT = 50;
+
+    /** The packed ASCII bytes of every word in the table, one after another. */
+    private byte[] pool;
+    /** The number of bytes used in the pool. */
+    private int poolSize;
+    /** The offset into the pool where each word starts, indexed by word number. */
+    private int[] offsets;
+    /** The length of each word, indexed by word number. */
+    private int[] lengths;
+    /** The hash of each word, indexed by word number (saves rehashing when the table grows). */
+    private int[] hashes;
+    /** The number of words in the table. */
+    private int count;
+    /** The hash slots, each holding a word number or EMPTY. The length is always a power of two. */
+    private int[] slots;
+
+    /**
+     * Constructs a new, empty WordTable.
+     */
+    public WordTable() {
+        pool = new byte[1024];
+        offsets = new int[64];
+        lengths = new int[64];
+        hashes = new int[64];
+        slots = new int[128];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    /**
+     * Adds a word into the table, unless it is already present. The word is lowercased as it is packed.
+     * @param word The word to be added.
+     * @return true if the word was added, false if it was already in the table or is not plain ASCII.
+     */
+    public boolean add(CharSequence word) {
+        if (!isAscii(word)) {
+            return false;
+        }
+        int hash = hash(word);
+        if (find(word, hash) != EMPTY) {
+            return false;
+        }
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+            lengths = Arrays.copyOf(lengths, count * 2);
+            hashes = Arrays.copyOf(hashes, count * 2);
+        }
+        if (poolSize + word.length() > pool.length) {
+            pool = Arrays.copyOf(pool, Math.max(pool.length * 2, poolSize + word.length()));
+        }
+        offsets[count] = poolSize;
+        lengths[count] = word.length();
+        hashes[count] = hash;
+        for (int i = 0; i < word.length(); i++) {
+            pool[poolSize++] = (byte) lower(word.charAt(i));
+        }
+        count++;
+
+        if (count * 100 > slots.length * MAX_LOAD_PERCENT) {
+            grow();
+        } else {
+            insertSlot(count - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a word is in the table, ignoring case.
+     * @param word The word to be checked.
+     * @return true if the word is in the table.
+     */
+    public boolean contains(CharSequence word) {
+        if (word == null || !isAscii(word)) {
+            return false;
+        }
+        return find(word, hash(word)) != EMPTY;
+    }
+
+    /**
+     * Returns the number of words in the table.
+     * @return The word count.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the word with the given number, in the order it was added.
+     * @param index The number of the word.
+     * @return The word as a lowercase String.
+     */
+    public String get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + count);
+        }
+        return new String(pool, offsets[index], lengths[index], StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Finds the word number of a word in the table.
+     * @param word The word to find.
+     * @param hash The hash of the word.
+     * @return The word number, or EMPTY if it isn't in the table.
+     */
+    private int find(CharSequence word, int hash) {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != EMPTY) {
+            int index = slots[slot];
+            if (hashes[index] == hash && matches(index, word)) {
+                return index;
+            }
+            slot = (slot + 1) & mask; //linear probing
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Compares a stored word against a word, ignoring case.
+     * @param index The number of the stored word.
+     * @param word The word to compare against.
+     * @return true if they are the same word.
+     */
+    private boolean matches(int index, CharSequence word) {
+        if (lengths[index] != word.length()) {
+            return false;
+        }
+        int offset = offsets[index];
+        for (int i = 0; i < word.length(); i++) {
+            if (pool[offset + i] != lower(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Places a stored word into the first free slot of its probe sequence.
+     * @param index The number of the stored word.
+     */
+    private void insertSlot(int index) {
+        int mask = slots.length - 1;
+        int slot = hashes[index] & mask;
+        while (slots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = index;
+    }
+
+    /**
+     * Doubles the number of slots and reinserts every word.
+     */
+    private void grow() {
+        slots = new int[slots.length * 2];
+        Arrays.fill(slots, EMPTY);
+        for (int i = 0; i < count; i++) {
+            insertSlot(i);
+        }
+    }
+
+    /**
+     * Hashes a word case-insensitively (FNV-1a, with a final mix so the low bits are well spread).
+     * @param word The word to hash.
+     * @return The hash of the lowercased word.
+     */
+    private static int hash(CharSequence word) {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < word.length(); i++) {
+            h ^= lower(word.charAt(i));
+            h *= 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Lowercases a single ASCII character.
+     * @param c The character.
+     * @return The lowercase character.
+     */
+    private static char lower(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Checks that every character of a word fits in a single byte.
+     * @param word The word to check.
+     * @return true if the word is plain ASCII.
+     */
+    private static boolean isAscii(CharSequence word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+import java.util.*;
+
+/**
+ * Zobrist keys for hashing game positions. Every (square, tile) pair has a random 64-bit key, and a
+ * board's hash is the XOR of the keys of its tiles, so placing or removing a tile changes the hash with
+ * a single XOR. The premium layout is hashed the same way.
+ *
+ * A rack is a multiset, where XOR would cancel out a repeated letter, so a rack's hash is the sum of
+ * the keys of its tiles instead, which is just as cheap to update.
+ *
+ * The keys come from a fixed seed, so a position hashes the same in every run (and after loading it).
+ *
+ * @author Taylor Brumwell
+ * @version 12/05/2025
+ */
+public final class Zobrist {
+    /** The number of tile codes (see GameCodec.encodeTile). */
+    public static final int TILE_CODES = 64;
+    /** The number of squares on the board. */
+    private static final int SQUARES = Board.SIZE * Board.SIZE;
+
+    /** The key of each tile code on each square. */
+    private static final long[][] SQUARE_KEYS = new long[SQUARES][TILE_CODES];
+    /** The key of each premium type on each square. */
+    private static final long[][] PREMIUM_KEYS = new long[SQUARES][Board.Premium.values().length];
+    /** The key of each tile code in a rack. */
+    private static final long[] RACK_KEYS = new long[TILE_CODES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5A0B1257L);
+        for (long[] keys : SQUARE_KEYS) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+        for (long[] keys : PREMIUM_KEYS) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+        for (int i = 0; i < RACK_KEYS.length; i++) {
+            RACK_KEYS[i] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of a tile committed to a square.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param tile The tile.
+     * @return The key.
+     */
+    public static long square(int row, int col, Tile tile) {
+        return SQUARE_KEYS[row * Board.SIZE + col][GameCodec.encodeTile(tile)];
+    }
+
+    /**
+     * Returns the key of a tile placed on a square but not yet committed, which differs from the key of the
+     * same tile committed there.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param tile The tile.
+     * @return The key.
+     */
+    public static long tempSquare(int row, int col, Tile tile) {
+        return Long.rotateLeft(square(row, col, tile), 32);
+    }
+
+    /**
+     * Returns the key of a premium square. Normal squares have no key, so a blank layout hashes to 0.
+     * @param row The row of the square
+     * @param col The column of the square
+     * @param premium The premium type.
+     * @return The key.
+     */
+    public static long premium(int row, int col, Board.Premium premium) {
+        return premium == Board.Premium.NORMAL ? 0 : PREMIUM_KEYS[row * Board.SIZE + col][premium.ordinal()];
+    }
+
+    /**
+     * Returns the amount a tile adds to the hash of a rack.
+     * @param tile The tile.
+     * @return The key.
+     */
+    public static long rackTile(Tile tile) {
+        return RACK_KEYS[GameCodec.encodeTile(tile)];
+    }
+
+    /**
+     * Hashes a rack of tiles.
+     * @param tiles The tiles, in any order.
+     * @return The sum of the tiles' keys.
+     */
+    public static long rack(Collection<Tile> tiles) {
+        if (tiles instanceof Player.Hand hand) {
+            return hand.getHash();
+        }
+        long hash = 0;
+        for (Tile tile : tiles) {
+            hash += rackTile(tile);
+        }
+        return hash;
+    }
+
+    /**
+     * Scrambles a value, so values which differ in a few bits hash far apart (the SplitMix64 finalizer).
+     * @param value The value.
+     * @return The scrambled value.
+     */
+    public static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}